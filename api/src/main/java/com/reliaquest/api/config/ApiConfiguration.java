@@ -0,0 +1,14 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({
+    UpstreamProperties.class,
+    WriteBehindProperties.class,
+    ExportProperties.class,
+    BulkheadProperties.class,
+    HttpCacheProperties.class
+})
+public class ApiConfiguration {}
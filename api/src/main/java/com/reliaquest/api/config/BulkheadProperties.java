@@ -0,0 +1,52 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-endpoint-class concurrency limits, bound from {@code employee.bulkheads.*}. Each {@link EndpointClass} runs at
+ * most {@code maxConcurrent} requests at once; up to {@code maxQueued} more wait at most {@code maxWait} for a slot,
+ * and anything beyond that is answered 503 at once, so a slow class cannot take every servlet thread.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.bulkheads")
+public class BulkheadProperties {
+
+    private boolean enabled = false;
+
+    private Map<EndpointClass, Pool> pools = new EnumMap<>(Map.of(
+            EndpointClass.ROSTER, new Pool(8, 16, Duration.ofMillis(200)),
+            EndpointClass.LOOKUP, new Pool(32, 64, Duration.ofMillis(100)),
+            EndpointClass.WRITE, new Pool(8, 32, Duration.ofMillis(500))));
+
+    @Data
+    public static class Pool {
+
+        private int maxConcurrent = 8;
+
+        private int maxQueued = 16;
+
+        private Duration maxWait = Duration.ofMillis(200);
+
+        public Pool() {}
+
+        public Pool(int maxConcurrent, int maxQueued, Duration maxWait) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.maxWait = maxWait;
+        }
+    }
+
+    /**
+     * ROSTER endpoints read the whole roster from the upstream or search the indexes built from it, LOOKUP ones read a
+     * single employee, WRITE ones create or delete.
+     */
+    public enum EndpointClass {
+        ROSTER,
+        LOOKUP,
+        WRITE
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.config;
+
+import java.nio.file.Path;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Roster export, bound from {@code employee.export.*}. Rosters of at least {@code spillThreshold} employees are
+ * written once per roster version and format to a file under {@code directory}, which every further export of that
+ * version is served from without copying it through the heap; smaller ones are streamed straight from memory.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.export")
+public class ExportProperties {
+
+    private Path directory = Path.of("data", "export");
+
+    private int spillThreshold = 10_000;
+}
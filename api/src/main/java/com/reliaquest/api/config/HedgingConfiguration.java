@@ -0,0 +1,27 @@
+package com.reliaquest.api.config;
+
+import java.net.http.HttpClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * With {@code employee.upstream.hedging.enabled}, upstream calls go through the JDK {@link HttpClient}, which aborts
+ * an exchange and closes its connection when the calling thread is interrupted, as the losing attempt of a hedge is.
+ * A read blocked in {@code HttpURLConnection} ignores the interrupt and would hold its connection until the upstream
+ * answered. Each call waits at most {@code employee.upstream.hedging.attempt-timeout} for a response.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.upstream.hedging", name = "enabled", havingValue = "true")
+public class HedgingConfiguration {
+
+    @Bean
+    RestClientCustomizer abortableUpstreamRequests(UpstreamProperties properties) {
+        final var requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build());
+        requestFactory.setReadTimeout(properties.getHedging().getAttemptTimeout());
+        return builder -> builder.requestFactory(requestFactory);
+    }
+}
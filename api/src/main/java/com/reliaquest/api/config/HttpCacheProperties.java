@@ -0,0 +1,19 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * HTTP caching of roster-derived responses, bound from {@code employee.http-cache.*}. When enabled they are answered
+ * from the roster snapshot with a strong {@code ETag} and {@code Cache-Control: max-age}, and a matching
+ * {@code If-None-Match} gets a 304.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.http-cache")
+public class HttpCacheProperties {
+
+    private boolean enabled = false;
+
+    private Duration maxAge = Duration.ofSeconds(30);
+}
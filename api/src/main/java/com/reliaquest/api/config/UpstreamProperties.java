@@ -0,0 +1,182 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.MediaType;
+
+/**
+ * Settings for the Mock Employee API this service fronts, bound from {@code employee.upstream.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.upstream")
+public class UpstreamProperties {
+
+    private String baseUrl = "http://localhost:8112/api/v1";
+
+    /**
+     * Base URLs of a sharded Mock Employee API, in shard order; replaces {@code baseUrl} when not empty. Id lookups and
+     * deletes go to the shard owning the id, roster reads fan out to every shard. A fan-out takes a single slot of the
+     * {@link Budget}, since each shard sees one request of it.
+     */
+    private List<String> shardUrls = new ArrayList<>();
+
+    /**
+     * Push name filtering, max and top-N work down to the upstream's {@code GET /employee} query parameters instead of
+     * downloading the whole roster. Only enable against a server that understands {@code name}, {@code sort} and
+     * {@code limit}.
+     */
+    private boolean queryPushdown = false;
+
+    /**
+     * Encoding requested for upstream reads. Binary formats are asked for with JSON as a lower-quality alternative,
+     * so a server without Smile/CBOR support keeps answering in JSON.
+     */
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    /**
+     * Answer {@code getAllEmployees} and {@code getEmployeeById} with the bytes of the upstream's {@code data} value as
+     * they arrived, without decoding them into {@code Employee} objects and encoding them again. These reads always
+     * ask for JSON, whatever {@code wireFormat} says; a sharded roster is still decoded, to merge the shards' lists.
+     */
+    private boolean passthrough = false;
+
+    /**
+     * How long the last full roster may back the in-memory search indexes before it is read again. A stale roster
+     * keeps being served while the re-read runs in the background.
+     */
+    private Duration rosterMaxAge = Duration.ofSeconds(60);
+
+    /**
+     * How long to wait before re-reading the roster after a failed read; doubles with every further failure, up to
+     * {@code rosterMaxAge} if that is longer.
+     */
+    private Duration rosterRefreshBackoff = Duration.ofSeconds(5);
+
+    private Budget budget = new Budget();
+
+    private Hedging hedging = new Hedging();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Scheduler scheduler = new Scheduler();
+
+    public enum WireFormat {
+        JSON(MediaType.APPLICATION_JSON),
+        SMILE(new MediaType("application", "x-jackson-smile")),
+        CBOR(MediaType.APPLICATION_CBOR);
+
+        private final MediaType mediaType;
+
+        WireFormat(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    /**
+     * What the upstream is known to tolerate: at most {@code requests} calls per {@code window} before it starts
+     * answering 429. Defaults to the Mock Employee API's worst case.
+     */
+    @Data
+    public static class Budget {
+
+        private int requests = 5;
+
+        private Duration window = Duration.ofSeconds(90);
+    }
+
+    /**
+     * Backup requests for {@code getEmployeeById}: when the upstream has not answered within the {@code percentile}
+     * of recent lookup latency (clamped to {@code minDelay}..{@code maxDelay}, {@code initialDelay} until
+     * {@code minSamples} lookups have been seen), one more request is sent if the circuit breaker permits it and the
+     * {@link Budget} has room for it.
+     */
+    @Data
+    public static class Hedging {
+
+        private boolean enabled = false;
+
+        private double percentile = 95;
+
+        private Duration initialDelay = Duration.ofMillis(250);
+
+        private Duration minDelay = Duration.ofMillis(20);
+
+        private Duration maxDelay = Duration.ofSeconds(2);
+
+        private int sampleSize = 128;
+
+        private int minSamples = 16;
+
+        /**
+         * Longest an upstream call waits for a response while hedging is enabled; bounds an attempt whose abort after
+         * losing the race does not reach the upstream.
+         */
+        private Duration attemptTimeout = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Stops calling the upstream after {@code failureThreshold} consecutive failures (429, 5xx, I/O errors). While
+     * open, reads are answered from the last good roster; after {@code openDuration} a single probe is let through and
+     * its outcome closes or re-opens the circuit.
+     */
+    @Data
+    public static class CircuitBreaker {
+
+        private boolean enabled = false;
+
+        private int failureThreshold = 5;
+
+        private Duration openDuration = Duration.ofSeconds(10);
+    }
+
+    /**
+     * Admission of upstream calls into the {@link Budget} by {@link Priority}. A class may hold at most {@code quota}
+     * of the budget's requests in any window, rounded down but at least one unless the quota is 0, waiting callers
+     * are served highest priority first, and a call still queued after its class's {@code deadline} is dropped.
+     */
+    @Data
+    public static class Scheduler {
+
+        private boolean enabled = false;
+
+        private Map<Priority, PriorityClass> classes = new EnumMap<>(Map.of(
+                Priority.INTERACTIVE, new PriorityClass(1.0, Duration.ofSeconds(2)),
+                Priority.WRITE, new PriorityClass(0.6, Duration.ofSeconds(10)),
+                Priority.BACKGROUND, new PriorityClass(0.4, Duration.ofSeconds(30)),
+                Priority.BULK, new PriorityClass(0.4, Duration.ofMinutes(5))));
+    }
+
+    @Data
+    public static class PriorityClass {
+
+        private double quota = 1.0;
+
+        private Duration deadline = Duration.ofSeconds(10);
+
+        public PriorityClass() {}
+
+        public PriorityClass(double quota, Duration deadline) {
+            this.quota = quota;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Upstream call classes, most important first.
+     */
+    public enum Priority {
+        INTERACTIVE,
+        WRITE,
+        BACKGROUND,
+        BULK
+    }
+}
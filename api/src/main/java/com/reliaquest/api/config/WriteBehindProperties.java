@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Asynchronous employee creation, bound from {@code employee.write-behind.*}. Accepted creates are journaled under
+ * {@code directory} and drained to the upstream as the request budget allows, waiting {@code retryDelay} before
+ * retrying a create the upstream refused without processing it. A created or failed ticket can be looked up for
+ * {@code completedRetention}; expired tickets are dropped when the journal is compacted, on startup and after every
+ * {@code compactEvery} completions.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.write-behind")
+public class WriteBehindProperties {
+
+    private boolean enabled = false;
+
+    private Path directory = Path.of("data", "write-behind");
+
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    private Duration completedRetention = Duration.ofHours(1);
+
+    private int compactEvery = 1000;
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.CreateTicket;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.WriteBehindCreateQueue;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Asynchronous employee creation, enabled with {@code employee.write-behind.enabled}. A valid create is answered with
+ * 202 and a ticket whose {@code Location} resolves to the created employee or the error once the queue has drained it.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee/async")
+@ConditionalOnProperty(prefix = "employee.write-behind", name = "enabled", havingValue = "true")
+public class AsyncEmployeeController {
+
+    private final WriteBehindCreateQueue createQueue;
+
+    public AsyncEmployeeController(WriteBehindCreateQueue createQueue) {
+        this.createQueue = createQueue;
+    }
+
+    @PostMapping()
+    public ResponseEntity<CreateTicket> createEmployee(@Valid @RequestBody EmployeeInput employeeInput) {
+        log.debug("Queueing creation of employee: {}", employeeInput.getName());
+        final var ticket = createQueue.submit(employeeInput);
+        final var location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{ticket}")
+                .buildAndExpand(ticket.ticket())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(ticket);
+    }
+
+    @GetMapping("/{ticket}")
+    public ResponseEntity<CreateTicket> getTicket(@PathVariable String ticket) {
+        return ResponseEntity.of(createQueue.find(ticket));
+    }
+}
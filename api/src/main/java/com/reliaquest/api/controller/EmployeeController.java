@@ -1,10 +1,18 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.config.BulkheadProperties.EndpointClass;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeRoster;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.UpstreamJson;
+import com.reliaquest.api.web.Bulkhead;
+import com.reliaquest.api.web.RosterHttpCache;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,20 +28,30 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmployeeController implements IEmployeeController<Employee, EmployeeInput> {
 
     private final EmployeeService employeeService;
+    private final ObjectProvider<RosterHttpCache> rosterHttpCache;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectProvider<RosterHttpCache> rosterHttpCache) {
         this.employeeService = employeeService;
+        this.rosterHttpCache = rosterHttpCache;
     }
 
     @Override
     @GetMapping()
+    @Bulkhead(EndpointClass.ROSTER)
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.debug("Fetching all employees");
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+        if (employeeService.isPassthrough() && rosterHttpCache.getIfAvailable() == null) {
+            final var employees = employeeService.getAllEmployeesJson();
+            if (employees != null) {
+                return passthrough(employees);
+            }
+        }
+        return fromRoster(EmployeeRoster.Snapshot::employees, employeeService::getAllEmployees);
     }
 
     @Override
     @GetMapping("/search/{searchString}")
+    @Bulkhead(EndpointClass.ROSTER)
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
         log.debug("Searching employees by name: {}", searchString);
         return ResponseEntity.ok(employeeService.getEmployeesByNameSearch(searchString));
@@ -41,27 +59,39 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
 
     @Override
     @GetMapping("/{id}")
+    @Bulkhead(EndpointClass.LOOKUP)
     public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
         log.debug("Fetching employee by id: {}", id);
+        if (employeeService.isPassthrough()) {
+            final var employee = employeeService.getEmployeeJsonById(id);
+            return employee != null ? passthrough(employee) : ResponseEntity.ok(null);
+        }
         return ResponseEntity.ok(employeeService.getEmployeeById(id));
     }
 
     @Override
     @GetMapping("/highestSalary")
+    @Bulkhead(EndpointClass.ROSTER)
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.debug("Fetching highest salary");
-        return ResponseEntity.ok(employeeService.getHighestSalaryOfEmployees());
+        return fromRoster(
+                snapshot -> EmployeeService.highestSalary(snapshot.employees()),
+                employeeService::getHighestSalaryOfEmployees);
     }
 
     @Override
     @GetMapping("/topTenHighestEarningEmployeeNames")
+    @Bulkhead(EndpointClass.ROSTER)
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.debug("Fetching top 10 highest earning employees");
-        return ResponseEntity.ok(employeeService.getTopTenHighestEarningEmployeeNames());
+        return fromRoster(
+                snapshot -> EmployeeService.topTenNames(snapshot.employees()),
+                employeeService::getTopTenHighestEarningEmployeeNames);
     }
 
     @Override
     @PostMapping()
+    @Bulkhead(EndpointClass.WRITE)
     public ResponseEntity<Employee> createEmployee(@RequestBody EmployeeInput employeeInput) {
         log.debug("Creating new employee: {}", employeeInput.getName());
         return ResponseEntity.ok(employeeService.createEmployee(employeeInput));
@@ -69,8 +99,26 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
 
     @Override
     @DeleteMapping("/{id}")
+    @Bulkhead(EndpointClass.WRITE)
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
         log.debug("Deleting employee with id: {}", id);
         return ResponseEntity.ok(employeeService.deleteEmployeeById(id));
     }
+
+    /*
+     * With employee.http-cache.enabled, answered from the roster snapshot with an ETag and Cache-Control; otherwise
+     * straight from the service.
+     */
+    private <T> ResponseEntity<T> fromRoster(Function<EmployeeRoster.Snapshot, T> cached, Supplier<T> uncached) {
+        final var httpCache = rosterHttpCache.getIfAvailable();
+        return httpCache != null ? httpCache.respond(cached, uncached) : ResponseEntity.ok(uncached.get());
+    }
+
+    /*
+     * The upstream's bytes in place of the declared body type, written as they are by UpstreamJsonHttpMessageConverter.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> passthrough(UpstreamJson json) {
+        return (ResponseEntity<T>) ResponseEntity.ok(json);
+    }
 }
@@ -0,0 +1,96 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.config.BulkheadProperties.EndpointClass;
+import com.reliaquest.api.export.ExportFormat;
+import com.reliaquest.api.service.RosterExportService;
+import com.reliaquest.api.web.Bulkhead;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk export of the roster as {@code csv} or {@code columnar} (see {@link ExportFormat}). The body is written straight
+ * to the response as it is encoded, never built up in memory; a spilled roster is handed to Tomcat's sendfile when
+ * the connector supports it, and otherwise copied with {@link FileChannel#transferTo}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee")
+public class EmployeeExportController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final RosterExportService exportService;
+
+    public EmployeeExportController(RosterExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/export")
+    @Bulkhead(EndpointClass.ROSTER)
+    public void exportEmployees(
+            @RequestParam(defaultValue = "csv") String format, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        log.debug("Exporting employees as {}", format);
+        final var exportFormat = ExportFormat.fromName(format);
+        if (exportFormat.isEmpty()) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        final var export = exportService.export(exportFormat.get());
+        response.setContentType(export.format().getMediaType().toString());
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                        .filename("employees-v" + export.version() + "." + export.format().getExtension())
+                        .build()
+                        .toString());
+        if (export.file() != null) {
+            try {
+                transfer(export.file(), request, response);
+            } finally {
+                exportService.release(export);
+            }
+            return;
+        }
+        final var out = new BufferedOutputStream(response.getOutputStream(), 1 << 16);
+        export.format().write(export.employees(), out);
+        out.flush();
+    }
+
+    private static void transfer(Path file, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        final var size = Files.size(file);
+        response.setContentLengthLong(size);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var target = Channels.newChannel(response.getOutputStream());
+            var position = 0L;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.config.BulkheadProperties.EndpointClass;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.search.NameBkTree.NameMatch;
+import com.reliaquest.api.service.EmployeeSearchService;
+import com.reliaquest.api.web.Bulkhead;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Search endpoints answered from the in-memory roster indexes rather than a fresh upstream read per request. They
+ * share the {@code ROSTER} bulkhead, since building an index or re-reading the roster costs as much as a list.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee")
+public class EmployeeSearchController {
+
+    static final int MAX_LIMIT = 50;
+    static final int MAX_DISTANCE = 3;
+    static final int MAX_RANGE_LIMIT = 1_000;
+
+    private final EmployeeSearchService searchService;
+
+    public EmployeeSearchController(EmployeeSearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /*
+     * Meant to be called per keystroke; limit is capped at MAX_LIMIT.
+     */
+    @GetMapping("/autocomplete")
+    @Bulkhead(EndpointClass.ROSTER)
+    public ResponseEntity<List<Employee>> autocomplete(
+            @RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Autocompleting employee names for prefix: {}", prefix);
+        return ResponseEntity.ok(searchService.autocomplete(prefix, Math.min(limit, MAX_LIMIT)));
+    }
+
+    /*
+     * Typo-tolerant name search, closest matches first. maxDistance is capped at MAX_DISTANCE, past which almost
+     * every name matches and the index has to visit most of the roster anyway.
+     */
+    @GetMapping("/fuzzy")
+    @Bulkhead(EndpointClass.ROSTER)
+    public ResponseEntity<List<NameMatch>> fuzzySearch(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "2") int maxDistance,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Fuzzy searching employees by name: {} (max distance {})", name, maxDistance);
+        final var distance = Math.max(0, Math.min(maxDistance, MAX_DISTANCE));
+        return ResponseEntity.ok(searchService.fuzzySearch(name, distance, Math.min(limit, MAX_LIMIT)));
+    }
+
+    /*
+     * Lowest salaries first; limit is capped at MAX_RANGE_LIMIT.
+     */
+    @GetMapping("/salary/range")
+    @Bulkhead(EndpointClass.ROSTER)
+    public ResponseEntity<List<Employee>> getEmployeesBySalaryRange(
+            @RequestParam int min, @RequestParam int max, @RequestParam(defaultValue = "100") int limit) {
+        log.debug("Fetching employees earning between {} and {}", min, max);
+        return ResponseEntity.ok(searchService.salaryRange(min, max, Math.min(limit, MAX_RANGE_LIMIT)));
+    }
+
+    @GetMapping("/salary/rank/{id}")
+    @Bulkhead(EndpointClass.ROSTER)
+    public ResponseEntity<SalaryRank> getSalaryRank(@PathVariable String id) {
+        log.debug("Fetching salary rank of employee: {}", id);
+        return ResponseEntity.of(searchService.salaryRank(id));
+    }
+
+    /*
+     * percentile must be in (0, 100].
+     */
+    @GetMapping("/salary/percentile/{percentile}")
+    @Bulkhead(EndpointClass.ROSTER)
+    public ResponseEntity<SalaryPercentile> getSalaryPercentile(@PathVariable double percentile) {
+        log.debug("Fetching salary at percentile: {}", percentile);
+        if (!(percentile > 0 && percentile <= 100)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.of(searchService.salaryPercentile(percentile));
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.EmployeeRoster;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Flags answers served from the last good roster while the upstream circuit is open: {@code Age} carries the roster's
+ * age in seconds and {@code X-Roster-Stale-Since} the time it was fetched.
+ */
+@ControllerAdvice
+public class StaleRosterAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_SINCE_HEADER = "X-Roster-Stale-Since";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && staleSince(servletRequest.getServletRequest()) instanceof Instant fetchedAt) {
+            final var headers = response.getHeaders();
+            headers.set(HttpHeaders.AGE, Long.toString(Duration.between(fetchedAt, Instant.now()).toSeconds()));
+            headers.set(STALE_SINCE_HEADER, fetchedAt.toString());
+        }
+        return body;
+    }
+
+    private static Object staleSince(HttpServletRequest request) {
+        return request.getAttribute(EmployeeRoster.STALE_SINCE_ATTRIBUTE);
+    }
+}
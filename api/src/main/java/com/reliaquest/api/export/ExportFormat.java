@@ -0,0 +1,51 @@
+package com.reliaquest.api.export;
+
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import org.springframework.http.MediaType;
+
+/**
+ * Roster export encodings.
+ */
+public enum ExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    COLUMNAR(new MediaType("application", "x-employee-columnar"), "bin");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static Optional<ExportFormat> fromName(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equals(name.toUpperCase(Locale.ROOT)))
+                .findFirst();
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /*
+     * Writes row by row or row group by row group; the caller owns buffering and closing out.
+     */
+    public void write(List<Employee> employees, OutputStream out) throws IOException {
+        switch (this) {
+            case CSV -> RosterCsvWriter.write(employees, out);
+            case COLUMNAR -> RosterColumnarWriter.write(employees, out);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.export;
+
+import com.reliaquest.api.model.Employee;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compact column-oriented binary export, big-endian throughout:
+ *
+ * <pre>
+ * file      := "EMPC" version:u8 group* end
+ * group     := rows:i32 (rows > 0) id name salary age title email
+ * string    := per row, length:i32 (-1 for null) followed by that many UTF-8 bytes
+ * int       := per row, value:i32 (Integer.MIN_VALUE for null)
+ * end       := 0:i32
+ * </pre>
+ *
+ * Columns are written per group of at most {@link #GROUP_SIZE} rows, so a reader can decode one group at a time and a
+ * writer never holds more than one group's worth of encoded data.
+ */
+final class RosterColumnarWriter {
+
+    static final byte[] MAGIC = {'E', 'M', 'P', 'C'};
+    static final int VERSION = 1;
+    static final int GROUP_SIZE = 65_536;
+    static final int NULL_INT = Integer.MIN_VALUE;
+
+    private RosterColumnarWriter() {}
+
+    static void write(List<Employee> employees, OutputStream out) throws IOException {
+        final var data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        for (int from = 0; from < employees.size(); from += GROUP_SIZE) {
+            final var group = employees.subList(from, Math.min(from + GROUP_SIZE, employees.size()));
+            data.writeInt(group.size());
+            strings(data, group, Employee::getId);
+            strings(data, group, Employee::getEmployee_name);
+            ints(data, group, Employee::getEmployee_salary);
+            ints(data, group, Employee::getEmployee_age);
+            strings(data, group, Employee::getEmployee_title);
+            strings(data, group, Employee::getEmployee_email);
+        }
+        data.writeInt(0);
+        data.flush();
+    }
+
+    private static void strings(DataOutputStream data, List<Employee> group, Function<Employee, String> column)
+            throws IOException {
+        for (Employee employee : group) {
+            final var value = column.apply(employee);
+            if (value == null) {
+                data.writeInt(-1);
+                continue;
+            }
+            final var bytes = value.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+    }
+
+    private static void ints(DataOutputStream data, List<Employee> group, Function<Employee, Integer> column)
+            throws IOException {
+        for (Employee employee : group) {
+            final var value = column.apply(employee);
+            data.writeInt(value == null ? NULL_INT : value);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.api.export;
+
+import com.reliaquest.api.model.Employee;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV with a header row, one employee per CRLF-terminated line. Fields containing a comma, quote or line
+ * break are quoted; missing values are empty fields.
+ */
+final class RosterCsvWriter {
+
+    static final String HEADER = "id,employee_name,employee_salary,employee_age,employee_title,employee_email\r\n";
+
+    private RosterCsvWriter() {}
+
+    static void write(List<Employee> employees, OutputStream out) throws IOException {
+        final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        writer.write(HEADER);
+        for (Employee employee : employees) {
+            text(writer, employee.getId());
+            writer.write(',');
+            text(writer, employee.getEmployee_name());
+            writer.write(',');
+            number(writer, employee.getEmployee_salary());
+            writer.write(',');
+            number(writer, employee.getEmployee_age());
+            writer.write(',');
+            text(writer, employee.getEmployee_title());
+            writer.write(',');
+            text(writer, employee.getEmployee_email());
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private static void text(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void number(Writer writer, Integer value) throws IOException {
+        if (value != null) {
+            writer.write(Integer.toString(value));
+        }
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
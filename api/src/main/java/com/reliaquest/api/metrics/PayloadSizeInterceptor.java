@@ -0,0 +1,143 @@
+package com.reliaquest.api.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Counts the bytes read from each upstream response body and records them when the response is closed, together with
+ * the {@link UpstreamRequestEvent} for the call.
+ */
+class PayloadSizeInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamMetrics metrics;
+
+    PayloadSizeInterceptor(UpstreamMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        final var event = new UpstreamRequestEvent();
+        event.begin();
+        final ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            if (event.shouldCommit()) {
+                event.status = -1;
+                describe(event, request);
+                event.commit();
+            }
+            throw e;
+        }
+        return new CountingResponse(response, request, event);
+    }
+
+    private static void describe(UpstreamRequestEvent event, HttpRequest request) {
+        event.operation = UpstreamMetrics.currentOperation();
+        event.method = request.getMethod().name();
+        event.uri = request.getURI().toString();
+    }
+
+    private class CountingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final HttpRequest request;
+        private final UpstreamRequestEvent event;
+        private CountingInputStream body;
+
+        CountingResponse(ClientHttpResponse delegate, HttpRequest request, UpstreamRequestEvent event) {
+            this.delegate = delegate;
+            this.request = request;
+            this.event = event;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            final var bytes = body == null ? 0 : body.count;
+            if (body != null) {
+                metrics.recordPayloadSize(bytes);
+            }
+            delegate.close();
+            if (event.shouldCommit()) {
+                describe(event, request);
+                event.status = statusOrUnknown();
+                event.bytes = bytes;
+                event.commit();
+            }
+        }
+
+        private int statusOrUnknown() {
+            try {
+                return delegate.getStatusCode().value();
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final var read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final var skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.RosterDecode")
+@Label("Roster Decode")
+@Category({"Employee API", "Upstream"})
+@Description("Turning an upstream response into objects: parse (body to tree) or convert (tree to Employee)")
+@Enabled(false)
+@StackTrace(false)
+class RosterDecodeEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Items")
+    @Description("Employees produced by a convert, -1 for parse")
+    int items;
+}
@@ -0,0 +1,143 @@
+package com.reliaquest.api.metrics;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Per-request phase durations reported in the {@code Server-Timing} response header:
+ *
+ * <ul>
+ *   <li>{@code upstream} - waiting on the Mock Employee API, excluding body parsing
+ *   <li>{@code backoff} - queued for the upstream request budget, which a 429 exhausts
+ *   <li>{@code decode} - turning upstream bodies into {@code Employee} objects
+ *   <li>{@code app} - everything else on the request thread
+ *   <li>{@code total} - from the start of the filter chain until the response is about to be committed
+ * </ul>
+ *
+ * A request is only tracked between {@link ServerTimingFilter} calling {@link #start()} and {@link #clear()}; outside
+ * of that every {@code record*} call is a single thread-local read. Work the request waits on from other threads runs
+ * under a timing of its own per attempt ({@link #forAttempt()}), whose phases are charged to the request once it is
+ * done waiting ({@link #recordWait}).
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private long upstreamNanos;
+    private long backoffNanos;
+    private long parseNanos;
+    private long convertNanos;
+
+    private ServerTiming() {}
+
+    static ServerTiming start() {
+        final var timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /*
+     * A fresh timing for one attempt at work the current request waits on from another thread, such as a hedged call,
+     * or null outside a tracked request. Attempts may run concurrently, so each needs its own.
+     */
+    public static ServerTiming forAttempt() {
+        return CURRENT.get() == null ? null : new ServerTiming();
+    }
+
+    /*
+     * Runs work on this thread recording into timing, which may be null to record nothing.
+     */
+    public static <T> T callAs(ServerTiming timing, Supplier<T> work) {
+        final var previous = CURRENT.get();
+        CURRENT.set(timing);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /*
+     * Charges nanos the request spent waiting on other threads: the backoff, parse and convert time of the attempt
+     * whose outcome it got, when known, and the rest of the wait as upstream.
+     */
+    public static void recordWait(long nanos, ServerTiming attempt) {
+        final var timing = CURRENT.get();
+        if (timing == null) {
+            return;
+        }
+        var upstream = nanos;
+        if (attempt != null) {
+            timing.backoffNanos += attempt.backoffNanos;
+            timing.parseNanos += attempt.parseNanos;
+            timing.convertNanos += attempt.convertNanos;
+            upstream -= attempt.backoffNanos + attempt.convertNanos;
+        }
+        timing.upstreamNanos += Math.max(0, upstream);
+    }
+
+    /*
+     * Wall time of a whole upstream exchange, including the parse time also reported through recordParse.
+     */
+    public static void recordUpstream(long nanos) {
+        final var timing = CURRENT.get();
+        if (timing != null) {
+            timing.upstreamNanos += nanos;
+        }
+    }
+
+    static void recordParse(long nanos) {
+        final var timing = CURRENT.get();
+        if (timing != null) {
+            timing.parseNanos += nanos;
+        }
+    }
+
+    static void recordConvert(long nanos) {
+        final var timing = CURRENT.get();
+        if (timing != null) {
+            timing.convertNanos += nanos;
+        }
+    }
+
+    public static void recordBackoff(long nanos) {
+        final var timing = CURRENT.get();
+        if (timing != null) {
+            timing.backoffNanos += nanos;
+        }
+    }
+
+    String toHeaderValue() {
+        final var total = System.nanoTime() - startNanos;
+        final var upstream = Math.max(0, upstreamNanos - parseNanos);
+        final var decode = parseNanos + convertNanos;
+        final var app = Math.max(0, total - upstreamNanos - convertNanos - backoffNanos);
+        return String.format(
+                Locale.ROOT,
+                "upstream;dur=%.3f, backoff;dur=%.3f, decode;dur=%.3f, app;dur=%.3f, total;dur=%.3f",
+                millis(upstream),
+                millis(backoffNanos),
+                millis(decode),
+                millis(app),
+                millis(total));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,107 @@
+package com.reliaquest.api.metrics;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Times response body parsing of the wrapped converter, also as a {@link RosterDecodeEvent}; everything else is
+ * passed through untouched.
+ */
+class TimedMessageConverter implements GenericHttpMessageConverter<Object> {
+
+    private final GenericHttpMessageConverter<Object> delegate;
+    private final UpstreamMetrics metrics;
+
+    @SuppressWarnings("unchecked")
+    TimedMessageConverter(GenericHttpMessageConverter<?> delegate, UpstreamMetrics metrics) {
+        this.delegate = (GenericHttpMessageConverter<Object>) delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        final var event = new RosterDecodeEvent();
+        event.begin();
+        final var start = System.nanoTime();
+        try {
+            return delegate.read(type, contextClass, inputMessage);
+        } finally {
+            metrics.recordParse(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.operation = UpstreamMetrics.currentOperation();
+                event.stage = "parse";
+                event.items = -1;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        final var event = new RosterDecodeEvent();
+        event.begin();
+        final var start = System.nanoTime();
+        try {
+            return delegate.read(clazz, inputMessage);
+        } finally {
+            metrics.recordParse(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.operation = UpstreamMetrics.currentOperation();
+                event.stage = "parse";
+                event.items = -1;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return delegate.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return delegate.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(type, clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public void write(Object o, Type type, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        delegate.write(o, type, contentType, outputMessage);
+    }
+
+    @Override
+    public void write(Object o, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        delegate.write(o, contentType, outputMessage);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegate.getSupportedMediaTypes();
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return delegate.getSupportedMediaTypes(clazz);
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.reliaquest.api.UpstreamBackoff")
+@Label("Upstream Backoff")
+@Category({"Employee API", "Upstream"})
+@Description("A call queued for the upstream request budget, e.g. after a 429 exhausted it; the duration is the wait")
+@Enabled(false)
+class UpstreamBackoffEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+}
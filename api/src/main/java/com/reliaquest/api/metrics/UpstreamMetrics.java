@@ -0,0 +1,210 @@
+package com.reliaquest.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Meters for calls to the Mock Employee API, tagged by upstream operation ({@code list}, {@code query}, {@code get},
+ * {@code create}, {@code delete}):
+ *
+ * <ul>
+ *   <li>{@code employee.upstream.requests} - timer per operation and outcome ({@code success}, {@code rate_limited},
+ *       {@code not_found}, {@code client_error}, {@code server_error}, {@code io_error}, {@code cancelled},
+ *       {@code error})
+ *   <li>{@code employee.upstream.rate.limited} - counter of 429 responses
+ *   <li>{@code employee.upstream.decode} - timer for turning a response into objects, by {@code stage}: {@code parse}
+ *       (body to tree) and {@code convert} (tree to {@code Employee})
+ *   <li>{@code employee.upstream.payload.size} - distribution of response body bytes
+ * </ul>
+ *
+ * The same calls are also emitted as JFR events ({@code com.reliaquest.api.UpstreamRequest}, {@code UpstreamBackoff}
+ * and {@code RosterDecode}), disabled unless a recording turns them on. Meters are registered on first use of their
+ * tags and looked up in maps after that, so recording a call allocates no builders or tag lists.
+ */
+@Component
+public class UpstreamMetrics {
+
+    private static final ThreadLocal<String> CURRENT_OPERATION = new ThreadLocal<>();
+
+    private final MeterRegistry registry;
+    private final Map<String, Map<String, Timer>> requestTimers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Timer>> decodeTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rateLimitedCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+
+    public UpstreamMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /*
+     * Counts response bytes and times body parsing for every call made through the built client.
+     */
+    public RestClient.Builder instrument(RestClient.Builder restClientBuilder) {
+        return restClientBuilder
+                .requestInterceptor(new PayloadSizeInterceptor(this))
+                .messageConverters(converters -> converters.replaceAll(converter ->
+                        converter instanceof GenericHttpMessageConverter<?> generic
+                                ? new TimedMessageConverter(generic, this)
+                                : converter));
+    }
+
+    public <T> T record(String operation, Supplier<T> upstreamCall) {
+        final var previous = CURRENT_OPERATION.get();
+        CURRENT_OPERATION.set(operation);
+        final var start = System.nanoTime();
+        var outcome = "success";
+        try {
+            return upstreamCall.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            if ("rate_limited".equals(outcome)) {
+                rateLimitedCounter(operation).increment();
+            }
+            throw e;
+        } finally {
+            final var elapsed = System.nanoTime() - start;
+            ServerTiming.recordUpstream(elapsed);
+            requestTimer(operation, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            CURRENT_OPERATION.set(previous);
+        }
+    }
+
+    public <T> T recordConvert(String operation, Supplier<T> conversion) {
+        final var event = new RosterDecodeEvent();
+        event.begin();
+        final var start = System.nanoTime();
+        T result = null;
+        try {
+            result = conversion.get();
+            return result;
+        } finally {
+            final var elapsed = System.nanoTime() - start;
+            ServerTiming.recordConvert(elapsed);
+            recordDecode(operation, "convert", elapsed);
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.stage = "convert";
+                event.items = result instanceof Collection<?> collection ? collection.size() : result == null ? 0 : 1;
+                event.commit();
+            }
+        }
+    }
+
+    /*
+     * Times a caller queued for the upstream request budget, which a 429 exhausts for the rest of its window, as the
+     * Server-Timing backoff phase and an UpstreamBackoff event lasting the wait.
+     */
+    public void recordBackoff(String operation, Runnable wait) {
+        final var event = new UpstreamBackoffEvent();
+        event.begin();
+        final var start = System.nanoTime();
+        try {
+            wait.run();
+        } finally {
+            ServerTiming.recordBackoff(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.commit();
+            }
+        }
+    }
+
+    void recordParse(long nanos) {
+        ServerTiming.recordParse(nanos);
+        recordDecode(currentOperation(), "parse", nanos);
+    }
+
+    void recordPayloadSize(long bytes) {
+        payloadSize(currentOperation()).record(bytes);
+    }
+
+    private void recordDecode(String operation, String stage, long nanos) {
+        decodeTimer(operation, stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /*
+     * Each lookup tries a plain get first, so the registering lambda is only created for tags not seen before.
+     */
+    private Timer requestTimer(String operation, String outcome) {
+        final var timers = requestTimers.computeIfAbsent(operation, key -> new ConcurrentHashMap<>());
+        final var timer = timers.get(outcome);
+        return timer != null
+                ? timer
+                : timers.computeIfAbsent(
+                        outcome, key -> timer("employee.upstream.requests", operation, "outcome", key));
+    }
+
+    private Timer decodeTimer(String operation, String stage) {
+        final var timers = decodeTimers.computeIfAbsent(operation, key -> new ConcurrentHashMap<>());
+        final var timer = timers.get(stage);
+        return timer != null
+                ? timer
+                : timers.computeIfAbsent(stage, key -> timer("employee.upstream.decode", operation, "stage", key));
+    }
+
+    private Counter rateLimitedCounter(String operation) {
+        final var counter = rateLimitedCounters.get(operation);
+        return counter != null ? counter : rateLimitedCounters.computeIfAbsent(operation, this::registerRateLimited);
+    }
+
+    private DistributionSummary payloadSize(String operation) {
+        final var summary = payloadSizes.get(operation);
+        return summary != null ? summary : payloadSizes.computeIfAbsent(operation, this::registerPayloadSize);
+    }
+
+    private Timer timer(String name, String operation, String tag, String value) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .tag(tag, value)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter registerRateLimited(String operation) {
+        return Counter.builder("employee.upstream.rate.limited")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private DistributionSummary registerPayloadSize(String operation) {
+        return DistributionSummary.builder("employee.upstream.payload.size")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    static String currentOperation() {
+        final var operation = CURRENT_OPERATION.get();
+        return operation == null ? "unknown" : operation;
+    }
+
+    private static String outcome(RuntimeException e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return "cancelled";
+        }
+        if (e instanceof HttpStatusCodeException statusException) {
+            final var status = statusException.getStatusCode();
+            if (status.value() == 429) {
+                return "rate_limited";
+            }
+            if (status.value() == 404) {
+                return "not_found";
+            }
+            return status.is4xxClientError() ? "client_error" : "server_error";
+        }
+        return e instanceof ResourceAccessException ? "io_error" : "error";
+    }
+}
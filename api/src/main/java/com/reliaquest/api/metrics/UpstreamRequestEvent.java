@@ -0,0 +1,36 @@
+package com.reliaquest.api.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.UpstreamRequest")
+@Label("Upstream Request")
+@Category({"Employee API", "Upstream"})
+@Description("A call to the Mock Employee API, from sending the request until its response is closed")
+@Enabled(false)
+@StackTrace(false)
+class UpstreamRequestEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    @Description("HTTP status, or -1 when no response arrived")
+    int status;
+
+    @Label("Response Size")
+    @DataAmount
+    long bytes;
+}
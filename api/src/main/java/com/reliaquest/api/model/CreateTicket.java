@@ -0,0 +1,31 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+
+/**
+ * State of an asynchronous create: {@code employee} is set once it is {@code CREATED}, {@code error} once it has
+ * {@code FAILED}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateTicket(
+        String ticket, Status status, Employee employee, String error, Instant submittedAt, Instant completedAt) {
+
+    public static CreateTicket pending(String ticket, Instant submittedAt) {
+        return new CreateTicket(ticket, Status.PENDING, null, null, submittedAt, null);
+    }
+
+    public CreateTicket created(Employee employee, Instant completedAt) {
+        return new CreateTicket(ticket, Status.CREATED, employee, null, submittedAt, completedAt);
+    }
+
+    public CreateTicket failed(String error, Instant completedAt) {
+        return new CreateTicket(ticket, Status.FAILED, null, error, submittedAt, completedAt);
+    }
+
+    public enum Status {
+        PENDING,
+        CREATED,
+        FAILED
+    }
+}
@@ -0,0 +1,6 @@
+package com.reliaquest.api.model;
+
+/**
+ * Nearest-rank salary percentile over the {@code of} salaried employees.
+ */
+public record SalaryPercentile(double percentile, int salary, int of) {}
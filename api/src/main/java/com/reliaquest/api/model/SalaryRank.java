@@ -0,0 +1,7 @@
+package com.reliaquest.api.model;
+
+/**
+ * Where an employee's salary sits in the roster: {@code rank} 1 is the highest salary and equal salaries share a rank,
+ * {@code percentile} is the share of the {@code of} salaried employees earning the same or less.
+ */
+public record SalaryRank(String id, int salary, int rank, int of, double percentile) {}
@@ -0,0 +1,213 @@
+package com.reliaquest.api.search;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable BK-trees over normalized employee names for typo-tolerant lookup: one over every name word, answering
+ * single-word queries such as {@code "smyth"}, and one over full names, answering queries such as {@code "jon smth"}.
+ * Children hang off their parent by edit distance; by the triangle inequality a query within {@code maxDistance} only
+ * descends into edges within {@code maxDistance} of its distance to the parent, so small distances leave most of the
+ * tree unvisited. Distances are only computed as far as the node's widest edge makes them matter.
+ */
+public final class NameBkTree {
+
+    private static final NameBkTree EMPTY = build(List.of());
+
+    private final Employee[] employees;
+    private final String[] keys;
+    private final Tree words;
+    private final Tree names;
+
+    private NameBkTree(Employee[] employees, String[] keys, Tree words, Tree names) {
+        this.employees = employees;
+        this.keys = keys;
+        this.words = words;
+        this.names = names;
+    }
+
+    public static NameBkTree empty() {
+        return EMPTY;
+    }
+
+    public static NameBkTree build(List<Employee> roster) {
+        final var employees = roster.toArray(Employee[]::new);
+        final var keys = new String[employees.length];
+        final var words = new TreeBuilder();
+        final var names = new TreeBuilder();
+        for (int i = 0; i < employees.length; i++) {
+            keys[i] = NameTrie.normalize(employees[i].getEmployee_name()).strip();
+            if (keys[i].isEmpty()) {
+                continue;
+            }
+            names.insert(keys[i], i);
+            for (String word : keys[i].split(" ")) {
+                words.insert(word, i);
+            }
+        }
+        return new NameBkTree(employees, keys, words.build(), names.build());
+    }
+
+    /*
+     * Distinct employees within maxDistance edits of the normalized query, closest first, then by name and roster
+     * order. A query of one word is matched against every name word, a longer one against full names.
+     */
+    public List<NameMatch> search(String query, int maxDistance, int limit) {
+        final var term = NameTrie.normalize(query).strip();
+        if (term.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        final var best = new HashMap<Integer, Integer>();
+        (term.indexOf(' ') < 0 ? words : names).search(term, maxDistance, best);
+        return best.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByValue()
+                        .thenComparing(entry -> keys[entry.getKey()], Comparator.naturalOrder())
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> new NameMatch(employees[entry.getKey()], entry.getValue()))
+                .toList();
+    }
+
+    public int size() {
+        return words.terms.length + names.terms.length;
+    }
+
+    /*
+     * Levenshtein distance over two rows, giving up with cap as soon as every path exceeds it.
+     */
+    static int distance(String a, String b, int cap) {
+        if (Math.abs(a.length() - b.length()) >= cap) {
+            return cap;
+        }
+        var previous = new int[b.length() + 1];
+        var current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            var rowMinimum = i;
+            for (int j = 1; j <= b.length(); j++) {
+                final var substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum >= cap) {
+                return cap;
+            }
+            final var swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], cap);
+    }
+
+    public record NameMatch(Employee employee, int distance) {}
+
+    private static final class Tree {
+
+        private final String[] terms;
+        private final int[][] postings;
+        private final int[][] edgeDistances;
+        private final int[][] edgeChildren;
+        private final int[] widestEdge;
+
+        private Tree(List<Node> nodes) {
+            this.terms = new String[nodes.size()];
+            this.postings = new int[nodes.size()][];
+            this.edgeDistances = new int[nodes.size()][];
+            this.edgeChildren = new int[nodes.size()][];
+            this.widestEdge = new int[nodes.size()];
+            for (int i = 0; i < nodes.size(); i++) {
+                final var node = nodes.get(i);
+                terms[i] = node.term;
+                postings[i] = node.postings.stream().mapToInt(Integer::intValue).toArray();
+                edgeDistances[i] = node.edgeDistances.stream().mapToInt(Integer::intValue).toArray();
+                edgeChildren[i] = node.edgeChildren.stream().mapToInt(Integer::intValue).toArray();
+                widestEdge[i] = Arrays.stream(edgeDistances[i]).max().orElse(0);
+            }
+        }
+
+        /*
+         * A distance of widestEdge + maxDistance or more neither matches nor reaches any child, so it is capped there.
+         */
+        private void search(String term, int maxDistance, Map<Integer, Integer> best) {
+            if (terms.length == 0) {
+                return;
+            }
+            final var pending = new int[terms.length];
+            var size = 0;
+            pending[size++] = 0;
+            while (size > 0) {
+                final var node = pending[--size];
+                final var distance = distance(term, terms[node], widestEdge[node] + maxDistance + 1);
+                if (distance <= maxDistance) {
+                    for (int employee : postings[node]) {
+                        best.merge(employee, distance, Math::min);
+                    }
+                }
+                for (int i = 0; i < edgeDistances[node].length; i++) {
+                    if (Math.abs(edgeDistances[node][i] - distance) <= maxDistance) {
+                        pending[size++] = edgeChildren[node][i];
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class TreeBuilder {
+
+        private final List<Node> nodes = new ArrayList<>();
+        private final Map<String, Node> byTerm = new HashMap<>();
+
+        private void insert(String term, int employee) {
+            final var existing = byTerm.get(term);
+            if (existing != null) {
+                if (!existing.postings.contains(employee)) {
+                    existing.postings.add(employee);
+                }
+                return;
+            }
+            final var added = new Node(term, employee);
+            byTerm.put(term, added);
+            if (nodes.isEmpty()) {
+                nodes.add(added);
+                return;
+            }
+            var parent = nodes.get(0);
+            while (true) {
+                final var distance = distance(term, parent.term, Integer.MAX_VALUE);
+                final var edge = parent.edgeDistances.indexOf(distance);
+                if (edge < 0) {
+                    parent.edgeDistances.add(distance);
+                    parent.edgeChildren.add(nodes.size());
+                    nodes.add(added);
+                    return;
+                }
+                parent = nodes.get(parent.edgeChildren.get(edge));
+            }
+        }
+
+        private Tree build() {
+            return new Tree(nodes);
+        }
+    }
+
+    private static final class Node {
+
+        private final String term;
+        private final List<Integer> postings = new ArrayList<>(1);
+        private final List<Integer> edgeDistances = new ArrayList<>();
+        private final List<Integer> edgeChildren = new ArrayList<>();
+
+        private Node(String term, int employee) {
+            this.term = term;
+            this.postings.add(employee);
+        }
+    }
+}
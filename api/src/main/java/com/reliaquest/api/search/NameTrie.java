@@ -0,0 +1,152 @@
+package com.reliaquest.api.search;
+
+import com.reliaquest.api.model.Employee;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index over employee names. Every name is normalized (accents stripped, lower-cased, punctuation
+ * folded to single spaces) and indexed once per word start, so {@code "jo"} completes both "John Smith" and
+ * "Mary Jones". The keys are sorted and each trie node only stores its sorted child labels and the range of keys
+ * below it, which makes a completion a walk of {@code prefix.length()} binary searches followed by a scan of at most
+ * {@code limit} keys.
+ */
+public final class NameTrie {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final NameTrie EMPTY = build(List.of());
+
+    private final Employee[] employees;
+    private final char[][] labels;
+    private final int[][] children;
+    private final int[] first;
+    private final int[] end;
+
+    private NameTrie(Employee[] employees, List<Node> nodes) {
+        this.employees = employees;
+        this.labels = new char[nodes.size()][];
+        this.children = new int[nodes.size()][];
+        this.first = new int[nodes.size()];
+        this.end = new int[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            final var node = nodes.get(i);
+            labels[i] = node.labels;
+            children[i] = node.children;
+            first[i] = node.first;
+            end[i] = node.end;
+        }
+    }
+
+    public static NameTrie empty() {
+        return EMPTY;
+    }
+
+    public static NameTrie build(List<Employee> roster) {
+        final var entries = new ArrayList<Entry>(roster.size() * 3);
+        for (Employee employee : roster) {
+            final var name = normalize(employee.getEmployee_name()).strip();
+            var start = 0;
+            while (start < name.length()) {
+                entries.add(new Entry(name.substring(start), employee));
+                final var space = name.indexOf(' ', start);
+                if (space < 0) {
+                    break;
+                }
+                start = space + 1;
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+
+        final var nodes = new ArrayList<Node>();
+        buildNode(entries, 0, 0, entries.size(), nodes);
+        return new NameTrie(entries.stream().map(Entry::employee).toArray(Employee[]::new), nodes);
+    }
+
+    /*
+     * Distinct employees whose name has a word starting with prefix, in key order. An empty prefix completes nothing.
+     */
+    public List<Employee> complete(String prefix, int limit) {
+        final var key = normalize(prefix).stripLeading();
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            final var child = Arrays.binarySearch(labels[node], key.charAt(i));
+            if (child < 0) {
+                return List.of();
+            }
+            node = children[node][child];
+        }
+        final var completions = new ArrayList<Employee>(Math.min(limit, end[node] - first[node]));
+        for (int i = first[node]; i < end[node] && completions.size() < limit; i++) {
+            if (!completions.contains(employees[i])) {
+                completions.add(employees[i]);
+            }
+        }
+        return completions;
+    }
+
+    public int size() {
+        return employees.length;
+    }
+
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        final var stripped = MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    /*
+     * Entries [from, to) all share their first depth characters. Keys ending at this depth sort first and stay in the
+     * node's range without a child.
+     */
+    private static int buildNode(List<Entry> entries, int depth, int from, int to, List<Node> nodes) {
+        final var index = nodes.size();
+        final var node = new Node(from, to);
+        nodes.add(node);
+
+        var start = from;
+        while (start < to && entries.get(start).key().length() == depth) {
+            start++;
+        }
+        final var labels = new StringBuilder();
+        final var children = new ArrayList<Integer>();
+        while (start < to) {
+            final var label = entries.get(start).key().charAt(depth);
+            var stop = start + 1;
+            while (stop < to && entries.get(stop).key().charAt(depth) == label) {
+                stop++;
+            }
+            labels.append(label);
+            children.add(buildNode(entries, depth + 1, start, stop, nodes));
+            start = stop;
+        }
+        node.labels = labels.toString().toCharArray();
+        node.children = children.stream().mapToInt(Integer::intValue).toArray();
+        return index;
+    }
+
+    private record Entry(String key, Employee employee) {}
+
+    private static final class Node {
+
+        private final int first;
+        private final int end;
+        private char[] labels;
+        private int[] children;
+
+        private Node(int first, int end) {
+            this.first = first;
+            this.end = end;
+        }
+    }
+}
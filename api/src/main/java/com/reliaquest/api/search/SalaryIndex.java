@@ -0,0 +1,121 @@
+package com.reliaquest.api.search;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Immutable order-statistics index over salaries: a sorted {@code int[]} with the employees in the same order. Rank
+ * and select are binary searches and array reads, and a range query is a binary search for its lower end followed by
+ * a scan of the {@code k} salaries it returns. Employees without a salary are left out.
+ */
+public final class SalaryIndex {
+
+    private static final SalaryIndex EMPTY = build(List.of());
+
+    private final int[] salaries;
+    private final Employee[] employees;
+
+    private SalaryIndex(int[] salaries, Employee[] employees) {
+        this.salaries = salaries;
+        this.employees = employees;
+    }
+
+    public static SalaryIndex empty() {
+        return EMPTY;
+    }
+
+    public static SalaryIndex build(List<Employee> roster) {
+        final var employees = roster.stream()
+                .filter(employee -> employee.getEmployee_salary() != null)
+                .sorted(Comparator.comparingInt(Employee::getEmployee_salary))
+                .toArray(Employee[]::new);
+        final var salaries = new int[employees.length];
+        for (int i = 0; i < employees.length; i++) {
+            salaries[i] = employees[i].getEmployee_salary();
+        }
+        return new SalaryIndex(salaries, employees);
+    }
+
+    /*
+     * Employees earning min..max inclusive, lowest first, at most limit of them.
+     */
+    public List<Employee> range(int min, int max, int limit) {
+        final var from = lowerBound(min);
+        final var to = (int) Math.min(upperBound(max), (long) from + Math.max(0, limit));
+        return from >= to ? List.of() : List.of(Arrays.copyOfRange(employees, from, to));
+    }
+
+    /*
+     * 1 for the highest salary; equal salaries share a rank.
+     */
+    public int rank(int salary) {
+        return salaries.length - upperBound(salary) + 1;
+    }
+
+    /*
+     * Share of salaries at or below salary, in percent.
+     */
+    public double percentileOf(int salary) {
+        return salaries.length == 0 ? 0 : 100.0 * upperBound(salary) / salaries.length;
+    }
+
+    /*
+     * The k-th lowest salary, zero-based.
+     */
+    public int select(int k) {
+        return salaries[k];
+    }
+
+    /*
+     * Nearest-rank percentile: the lowest salary with at least percentile percent of salaries at or below it. Empty
+     * when no employee has a salary.
+     */
+    public OptionalInt percentile(double percentile) {
+        if (salaries.length == 0) {
+            return OptionalInt.empty();
+        }
+        final var rank = (int) Math.ceil(percentile / 100 * salaries.length);
+        return OptionalInt.of(select(Math.min(Math.max(rank, 1), salaries.length) - 1));
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    /*
+     * Index of the first salary >= salary.
+     */
+    private int lowerBound(int salary) {
+        var low = 0;
+        var high = salaries.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (salaries[mid] < salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Index of the first salary > salary.
+     */
+    private int upperBound(int salary) {
+        var low = 0;
+        var high = salaries.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (salaries[mid] <= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,125 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * The last full roster successfully read from the upstream, kept as an immutable {@link Snapshot}. It answers reads
+ * while the upstream is unavailable and backs the in-memory search indexes, which rebuild whenever the snapshot's
+ * {@code version} changes. A re-read of an unchanged roster only refreshes {@code fetchedAt}; creates and deletes made
+ * through this api are applied to the snapshot directly.
+ */
+@Component
+public class EmployeeRoster {
+
+    /**
+     * Request attribute holding the {@link Instant} a stale answer's roster was fetched at.
+     */
+    public static final String STALE_SINCE_ATTRIBUTE = EmployeeRoster.class.getName() + ".staleSince";
+
+    private final AtomicLong versions = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public synchronized void update(List<Employee> employees) {
+        final var fingerprint = fingerprint(employees);
+        final var current = snapshot;
+        final var unchanged = current != null && current.fingerprint().equals(fingerprint);
+        final var version = unchanged ? current.version() : versions.incrementAndGet();
+        snapshot = snapshot(version, fingerprint, employees, Instant.now());
+    }
+
+    public synchronized void add(Employee employee) {
+        final var current = snapshot;
+        if (current == null) {
+            return;
+        }
+        final var employees = new ArrayList<>(current.employees());
+        employees.add(employee);
+        snapshot = snapshot(versions.incrementAndGet(), fingerprint(employees), employees, current.fetchedAt());
+    }
+
+    public synchronized void remove(String id) {
+        final var current = snapshot;
+        if (current == null || !current.byId().containsKey(id)) {
+            return;
+        }
+        final var employees = new ArrayList<>(current.employees());
+        employees.removeIf(employee -> id.equals(employee.getId()));
+        snapshot = snapshot(versions.incrementAndGet(), fingerprint(employees), employees, current.fetchedAt());
+    }
+
+    /*
+     * Null until the first successful full read.
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    private static Snapshot snapshot(long version, String fingerprint, List<Employee> employees, Instant fetchedAt) {
+        final var present = employees.stream().filter(Objects::nonNull).toList();
+        final var byId = new LinkedHashMap<String, Employee>(present.size() * 2);
+        for (Employee employee : present) {
+            if (employee.getId() != null) {
+                byId.put(employee.getId(), employee);
+            }
+        }
+        return new Snapshot(version, fingerprint, present, Map.copyOf(byId), fetchedAt);
+    }
+
+    /*
+     * Hex SHA-256 over every field of every employee, each written as a presence byte, a length and its UTF-8 bytes,
+     * so no two different rosters share a fingerprint in practice.
+     */
+    static String fingerprint(List<Employee> employees) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (Employee employee : employees) {
+            if (employee == null) {
+                continue;
+            }
+            update(digest, employee.getId());
+            update(digest, employee.getEmployee_name());
+            update(digest, employee.getEmployee_salary());
+            update(digest, employee.getEmployee_age());
+            update(digest, employee.getEmployee_title());
+            update(digest, employee.getEmployee_email());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, Object field) {
+        if (field == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        final var bytes = field.toString().getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    public record Snapshot(
+            long version,
+            String fingerprint,
+            List<Employee> employees,
+            Map<String, Employee> byId,
+            Instant fetchedAt) {}
+}
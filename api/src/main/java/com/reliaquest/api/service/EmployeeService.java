@@ -1,47 +1,161 @@
 package com.reliaquest.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.UpstreamProperties;
+import com.reliaquest.api.config.UpstreamProperties.Priority;
+import com.reliaquest.api.metrics.UpstreamMetrics;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Slf4j
 @Service
 public class EmployeeService {
 
+    private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final TypeReference<List<Employee>> EMPLOYEES = new TypeReference<>() {};
+    private static final MediaType JSON_FALLBACK = new MediaType("application", "json", 0.5);
+    private static final Function<RestClient.ResponseSpec, Map<String, Object>> DECODED_BODY =
+            response -> response.body(RESPONSE_TYPE);
+    private static final Function<RestClient.ResponseSpec, byte[]> RAW_BODY = response -> response.body(byte[].class);
+    private static final Function<RestClient, RestClient.RequestHeadersSpec<?>> ROSTER_REQUEST =
+            client -> client.get().uri("/employee");
+    private static final Comparator<Employee> BY_SALARY_DESCENDING =
+            Comparator.comparing(Employee::getEmployee_salary, Comparator.nullsLast(Comparator.reverseOrder()));
+
     private final RestClient restClient;
+    private final UpstreamShards shards;
     private final ObjectMapper objectMapper;
+    private final UpstreamProperties properties;
+    private final UpstreamMetrics metrics;
+    private final UpstreamRequestBudget requestBudget;
+    private final UpstreamScheduler scheduler;
+    private final HedgedRequests hedgedRequests;
+    private final UpstreamCircuitBreaker circuitBreaker;
+    private final EmployeeRoster roster;
+    private final ExecutorService rosterRefresher = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "roster-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rosterRefreshing = new AtomicBoolean();
+    private volatile long nextRefreshNanos = System.nanoTime();
+    private Duration refreshBackoff = Duration.ZERO;
 
     public EmployeeService(ObjectMapper objectMapper) {
-        this.restClient = RestClient.create("http://localhost:8112/api/v1");
+        this(
+                objectMapper,
+                RestClient.builder(),
+                new UpstreamProperties(),
+                new UpstreamMetrics(new SimpleMeterRegistry()));
+    }
+
+    public EmployeeService(
+            ObjectMapper objectMapper,
+            RestClient.Builder restClientBuilder,
+            UpstreamProperties properties,
+            UpstreamMetrics metrics) {
+        this(objectMapper, restClientBuilder, properties, metrics, new UpstreamRequestBudget(properties));
+    }
+
+    private EmployeeService(
+            ObjectMapper objectMapper,
+            RestClient.Builder restClientBuilder,
+            UpstreamProperties properties,
+            UpstreamMetrics metrics,
+            UpstreamRequestBudget requestBudget) {
+        this(
+                objectMapper,
+                restClientBuilder,
+                properties,
+                metrics,
+                requestBudget,
+                new UpstreamCircuitBreaker(properties, new SimpleMeterRegistry()));
+    }
+
+    private EmployeeService(
+            ObjectMapper objectMapper,
+            RestClient.Builder restClientBuilder,
+            UpstreamProperties properties,
+            UpstreamMetrics metrics,
+            UpstreamRequestBudget requestBudget,
+            UpstreamCircuitBreaker circuitBreaker) {
+        this(
+                objectMapper,
+                restClientBuilder,
+                properties,
+                metrics,
+                requestBudget,
+                new HedgedRequests(properties, requestBudget, circuitBreaker, new SimpleMeterRegistry()),
+                circuitBreaker,
+                new EmployeeRoster(),
+                new UpstreamScheduler(properties, requestBudget, metrics, new SimpleMeterRegistry()));
+    }
+
+    @Autowired
+    public EmployeeService(
+            ObjectMapper objectMapper,
+            RestClient.Builder restClientBuilder,
+            UpstreamProperties properties,
+            UpstreamMetrics metrics,
+            UpstreamRequestBudget requestBudget,
+            HedgedRequests hedgedRequests,
+            UpstreamCircuitBreaker circuitBreaker,
+            EmployeeRoster roster,
+            UpstreamScheduler scheduler) {
+        final var instrumented = metrics.instrument(restClientBuilder);
+        this.shards = new UpstreamShards(instrumented, properties.getShardUrls());
+        this.restClient = instrumented.baseUrl(properties.getBaseUrl()).build();
         this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.requestBudget = requestBudget;
+        this.hedgedRequests = hedgedRequests;
+        this.circuitBreaker = circuitBreaker;
+        this.roster = roster;
+        this.scheduler = scheduler;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rosterRefresher.shutdownNow();
+        shards.shutdown();
     }
 
     public List<Employee> getAllEmployees() {
         log.debug("Fetching all employees");
 
         try {
-            Map<String, Object> response = restClient
-                    .get()
-                    .uri("/employee")
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
-
-            if (response != null && response.containsKey("data")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> employeeData = (List<Map<String, Object>>) response.get("data");
-
-                List<Employee> employees = employeeData.stream()
-                        .map(data -> objectMapper.convertValue(data, Employee.class))
-                        .toList();
+            List<Employee> employees = retrieveEmployees("list", ROSTER_REQUEST);
 
+            if (employees != null) {
                 log.debug("Successfully fetched {} employees", employees.size());
                 return employees;
             }
@@ -49,8 +163,72 @@ public class EmployeeService {
             log.warn("No data found in response");
             return List.of();
         } catch (Exception e) {
-            log.error("Error fetching employees: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch employees", e);
+            return staleOrThrow("Failed to fetch employees", e, EmployeeRoster.Snapshot::employees);
+        }
+    }
+
+    public boolean isPassthrough() {
+        return properties.isPassthrough();
+    }
+
+    /*
+     * getAllEmployees without decoding: the upstream's data array as it arrived. A failure answered from the stale
+     * roster is encoded from it. Null when the upstream is sharded, leaving the merge to getAllEmployees.
+     *
+     * The array is only decoded into the roster when the roster is missing or older than roster-max-age, which costs
+     * one decode per max-age and spares rosterSnapshot its own upstream read; otherwise the roster keeps its last
+     * read, and creates and deletes made through this api still reach it.
+     */
+    public UpstreamJson getAllEmployeesJson() {
+        log.debug("Fetching all employees as upstream JSON");
+        if (shards.isSharded()) {
+            return null;
+        }
+
+        try {
+            UpstreamJson employees = dataOf("list", exchange("list", rawRosterRequest(), RAW_BODY));
+
+            if (employees != null) {
+                log.debug("Passing through {} bytes of employees", employees.length());
+                if (!isFresh(roster.snapshot())) {
+                    roster.update(decode(employees));
+                }
+                return employees;
+            }
+
+            log.warn("No data found in response");
+            return UpstreamJson.EMPTY_ARRAY;
+        } catch (Exception e) {
+            return staleOrThrow("Failed to fetch employees", e, stale -> encode(stale.employees()));
+        }
+    }
+
+    /*
+     * getEmployeeById without decoding; null when there is no such employee.
+     */
+    public UpstreamJson getEmployeeJsonById(String id) {
+        log.debug("Fetching employee by id as upstream JSON: {}", id);
+
+        try {
+            byte[] response = hedgedRequests.isEnabled()
+                    ? hedgedRequests.call(
+                            () -> exchange("get", rawEmployeeRequest(id), RAW_BODY),
+                            () -> send("get", rawEmployeeRequest(id), RAW_BODY))
+                    : exchange("get", rawEmployeeRequest(id), RAW_BODY);
+
+            UpstreamJson employee = dataOf("get", response);
+            if (employee != null) {
+                log.debug("Passing through employee with id: {}", id);
+                return employee;
+            }
+
+            log.warn("No employee found with id: {}", id);
+            return null;
+        } catch (Exception e) {
+            return staleOrNull("Failed to fetch employee " + id, e, stale -> {
+                final var employee = stale.byId().get(id);
+                return employee == null ? null : encode(employee);
+            });
         }
     }
 
@@ -58,32 +236,24 @@ public class EmployeeService {
         log.debug("Searching employees by name: {}", searchString);
 
         try {
-            Map<String, Object> response = restClient
-                    .get()
-                    .uri("/employee")
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
-
-            if (response != null && response.containsKey("data")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> employeeData = (List<Map<String, Object>>) response.get("data");
-
-                List<Employee> allEmployees = employeeData.stream()
-                        .map(data -> objectMapper.convertValue(data, Employee.class))
-                        .toList();
-
-                List<Employee> filteredEmployees = new ArrayList<>();
-                String lowerSearchString = searchString.toLowerCase();
-
-                for (Employee emp : allEmployees) {
-                    if (emp.getEmployee_name() != null) {
-                        String employeeName = emp.getEmployee_name().toLowerCase();
-                        if (employeeName.contains(lowerSearchString)) {
-                            filteredEmployees.add(emp);
-                        }
-                    }
+            if (properties.isQueryPushdown()) {
+                List<Employee> matches = retrieveEmployees("query", client -> client.get()
+                        .uri(uri -> uri.path("/employee")
+                                .queryParam("name", "{name}")
+                                .build(searchString)));
+                if (matches != null) {
+                    log.debug("Upstream found {} employees matching search '{}'", matches.size(), searchString);
+                    return matches;
                 }
 
+                log.warn("No data found in response");
+                return List.of();
+            }
+
+            List<Employee> allEmployees = retrieveEmployees("list", ROSTER_REQUEST);
+
+            if (allEmployees != null) {
+                List<Employee> filteredEmployees = filterByName(allEmployees, searchString);
                 log.debug("Found {} employees matching search '{}'", filteredEmployees.size(), searchString);
                 return filteredEmployees;
             }
@@ -91,8 +261,8 @@ public class EmployeeService {
             log.warn("No data found in response");
             return List.of();
         } catch (Exception e) {
-            log.error("Error searching employees by name: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to search employees", e);
+            return staleOrThrow(
+                    "Failed to search employees", e, stale -> filterByName(stale.employees(), searchString));
         }
     }
 
@@ -100,16 +270,13 @@ public class EmployeeService {
         log.debug("Fetching employee by id: {}", id);
 
         try {
-            Map<String, Object> response = restClient
-                    .get()
-                    .uri("/employee/{id}", id)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+            Map<String, Object> response = hedgedRequests.isEnabled()
+                    ? hedgedRequests.call(
+                            () -> exchange("get", employeeRequest(id)), () -> send("get", employeeRequest(id)))
+                    : exchange("get", employeeRequest(id));
 
             if (response != null && response.containsKey("data")) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> employeeData = (Map<String, Object>) response.get("data");
-                Employee employee = objectMapper.convertValue(employeeData, Employee.class);
+                Employee employee = toEmployee("get", response.get("data"));
                 log.debug("Successfully fetched employee with id: {}", id);
                 return employee;
             }
@@ -117,8 +284,7 @@ public class EmployeeService {
             log.warn("No employee found with id: {}", id);
             return null;
         } catch (Exception e) {
-            log.error("Error fetching employee by id {}: {}", id, e.getMessage(), e);
-            return null;
+            return staleOrNull("Failed to fetch employee " + id, e, stale -> stale.byId().get(id));
         }
     }
 
@@ -126,26 +292,12 @@ public class EmployeeService {
         log.debug("Fetching highest salary");
 
         try {
-            Map<String, Object> response = restClient
-                    .get()
-                    .uri("/employee")
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
-
-            if (response != null && response.containsKey("data")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> employeeData = (List<Map<String, Object>>) response.get("data");
-
-                List<Employee> employees = employeeData.stream()
-                        .map(data -> objectMapper.convertValue(data, Employee.class))
-                        .toList();
-
-                Integer highestSalary = employees.stream()
-                        .filter(emp -> emp.getEmployee_salary() != null)
-                        .mapToInt(Employee::getEmployee_salary)
-                        .max()
-                        .orElse(0);
+            List<Employee> employees = properties.isQueryPushdown()
+                    ? topEarners(1)
+                    : retrieveEmployees("list", ROSTER_REQUEST);
 
+            if (employees != null) {
+                Integer highestSalary = highestSalary(employees);
                 log.debug("Highest salary found: {}", highestSalary);
                 return highestSalary;
             }
@@ -153,8 +305,7 @@ public class EmployeeService {
             log.warn("No data found in response");
             return 0;
         } catch (Exception e) {
-            log.error("Error fetching highest salary: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch highest salary", e);
+            return staleOrThrow("Failed to fetch highest salary", e, stale -> highestSalary(stale.employees()));
         }
     }
 
@@ -162,35 +313,12 @@ public class EmployeeService {
         log.debug("Fetching top 10 highest earning employees");
 
         try {
-            Map<String, Object> response = restClient
-                    .get()
-                    .uri("/employee")
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
-
-            if (response != null && response.containsKey("data")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> employeeData = (List<Map<String, Object>>) response.get("data");
-
-                List<Employee> employees = employeeData.stream()
-                        .map(data -> objectMapper.convertValue(data, Employee.class))
-                        .toList();
-
-                List<Employee> validEmployees = new ArrayList<>();
-                for (Employee emp : employees) {
-                    if (emp.getEmployee_salary() != null) {
-                        validEmployees.add(emp);
-                    }
-                }
-
-                validEmployees.sort((e1, e2) -> e2.getEmployee_salary() - e1.getEmployee_salary());
-
-                List<String> topTenNames = new ArrayList<>();
-                int count = Math.min(10, validEmployees.size());
-                for (int i = 0; i < count; i++) {
-                    topTenNames.add(validEmployees.get(i).getEmployee_name());
-                }
+            List<Employee> employees = properties.isQueryPushdown()
+                    ? topEarners(10)
+                    : retrieveEmployees("list", ROSTER_REQUEST);
 
+            if (employees != null) {
+                List<String> topTenNames = topTenNames(employees);
                 log.debug("Found top {} highest earning employees", topTenNames.size());
                 return topTenNames;
             }
@@ -198,38 +326,40 @@ public class EmployeeService {
             log.warn("No data found in response");
             return List.of();
         } catch (Exception e) {
-            log.error("Error fetching top 10 highest earning employees: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch top 10 highest earning employees", e);
+            return staleOrThrow(
+                    "Failed to fetch top 10 highest earning employees", e, stale -> topTenNames(stale.employees()));
         }
     }
 
     public Employee createEmployee(EmployeeInput employeeInput) {
-        log.debug("Creating new employee: {}", employeeInput.getName());
-
         try {
-            Map<String, Object> response = restClient
-                    .post()
-                    .uri("/employee")
-                    .body(employeeInput)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
-
-            if (response != null && response.containsKey("data")) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> employeeData = (Map<String, Object>) response.get("data");
-                Employee employee = objectMapper.convertValue(employeeData, Employee.class);
-                log.debug("Successfully created employee with id: {}", employee.getId());
-                return employee;
-            }
-
-            log.warn("No data found in create employee response");
-            return null;
+            return create(employeeInput);
         } catch (Exception e) {
             log.error("Error creating employee: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to create employee", e);
         }
     }
 
+    /*
+     * createEmployee for callers that retry: upstream failures are thrown as they are, without being logged.
+     */
+    Employee create(EmployeeInput employeeInput) {
+        log.debug("Creating new employee: {}", employeeInput.getName());
+
+        Map<String, Object> response =
+                exchange("create", upstreamForCreate().post().uri("/employee").body(employeeInput));
+
+        if (response != null && response.containsKey("data")) {
+            Employee employee = toEmployee("create", response.get("data"));
+            log.debug("Successfully created employee with id: {}", employee.getId());
+            roster.add(employee);
+            return employee;
+        }
+
+        log.warn("No data found in create employee response");
+        return null;
+    }
+
     public String deleteEmployeeById(String id) {
         log.debug("Deleting employee with id: {}", id);
 
@@ -242,17 +372,14 @@ public class EmployeeService {
 
             Map<String, String> deleteRequest = Map.of("name", employee.getEmployee_name());
 
-            Map<String, Object> response = restClient
-                    .method(HttpMethod.DELETE)
-                    .uri("/employee")
-                    .body(deleteRequest)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+            Map<String, Object> response = exchange(
+                    "delete", upstreamFor(id).method(HttpMethod.DELETE).uri("/employee").body(deleteRequest));
 
             if (response != null) {
                 Boolean success = (Boolean) response.get("data");
                 if (success != null && success) {
                     log.debug("Employee deleted successfully: {}", employee.getEmployee_name());
+                    roster.remove(id);
                     return employee.getEmployee_name();
                 } else {
                     log.debug("Delete operation failed for employee: {}", employee.getEmployee_name());
@@ -267,4 +394,360 @@ public class EmployeeService {
             return "Delete failed - " + e.getMessage();
         }
     }
+
+    /*
+     * The roster the in-memory indexes are built from. Once it is older than employee.upstream.roster-max-age it is
+     * still returned at once, while a single BACKGROUND re-read runs on the roster-refresh thread; only the very first
+     * read happens on the caller's thread, since there is nothing to serve before it. Null only when the upstream has
+     * never returned a roster.
+     */
+    public EmployeeRoster.Snapshot rosterSnapshot() {
+        final var snapshot = roster.snapshot();
+        if (snapshot == null) {
+            return firstRoster();
+        }
+        if (!isFresh(snapshot)
+                && System.nanoTime() - nextRefreshNanos >= 0
+                && rosterRefreshing.compareAndSet(false, true)) {
+            rosterRefresher.execute(() -> {
+                try {
+                    readRoster();
+                } catch (RuntimeException e) {
+                    log.debug("Background roster refresh failed: {}", e.getMessage());
+                } finally {
+                    rosterRefreshing.set(false);
+                }
+            });
+        }
+        return snapshot;
+    }
+
+    private synchronized EmployeeRoster.Snapshot firstRoster() {
+        final var snapshot = roster.snapshot();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        if (System.nanoTime() - nextRefreshNanos < 0) {
+            throw new UpstreamUnavailableException("Roster read failed recently, backing off for " + refreshBackoff);
+        }
+        readRoster();
+        return roster.snapshot();
+    }
+
+    /*
+     * A read that does not replace the roster, whether it threw or was answered from the stale roster, holds off the
+     * next one for employee.upstream.roster-refresh-backoff, doubling up to roster-max-age if that is longer; a new
+     * roster resets it.
+     */
+    private synchronized void readRoster() {
+        final var previous = roster.snapshot();
+        RuntimeException failure = null;
+        try {
+            UpstreamScheduler.callAs(Priority.BACKGROUND, this::getAllEmployees);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        final var snapshot = roster.snapshot();
+        if (snapshot != null && (previous == null || !snapshot.fetchedAt().equals(previous.fetchedAt()))) {
+            refreshBackoff = Duration.ZERO;
+            return;
+        }
+        final var initial = properties.getRosterRefreshBackoff();
+        final var limit = initial.compareTo(properties.getRosterMaxAge()) > 0 ? initial : properties.getRosterMaxAge();
+        refreshBackoff = refreshBackoff.isZero() ? initial : refreshBackoff.multipliedBy(2);
+        if (refreshBackoff.compareTo(limit) > 0) {
+            refreshBackoff = limit;
+        }
+        nextRefreshNanos = System.nanoTime() + refreshBackoff.toNanos();
+        log.warn(
+                "Failed to refresh roster, keeping the one fetched at {} and retrying in {}",
+                snapshot == null ? null : snapshot.fetchedAt(),
+                refreshBackoff);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private boolean isFresh(EmployeeRoster.Snapshot snapshot) {
+        return snapshot != null && snapshot.fetchedAt().plus(properties.getRosterMaxAge()).isAfter(Instant.now());
+    }
+
+    private static List<Employee> filterByName(List<Employee> employees, String searchString) {
+        List<Employee> filteredEmployees = new ArrayList<>();
+        String lowerSearchString = searchString.toLowerCase();
+
+        for (Employee emp : employees) {
+            if (emp.getEmployee_name() != null) {
+                String employeeName = emp.getEmployee_name().toLowerCase();
+                if (employeeName.contains(lowerSearchString)) {
+                    filteredEmployees.add(emp);
+                }
+            }
+        }
+        return filteredEmployees;
+    }
+
+    public static Integer highestSalary(List<Employee> employees) {
+        return employees.stream()
+                .filter(emp -> emp.getEmployee_salary() != null)
+                .mapToInt(Employee::getEmployee_salary)
+                .max()
+                .orElse(0);
+    }
+
+    public static List<String> topTenNames(List<Employee> employees) {
+        List<Employee> validEmployees = new ArrayList<>();
+        for (Employee emp : employees) {
+            if (emp.getEmployee_salary() != null) {
+                validEmployees.add(emp);
+            }
+        }
+
+        validEmployees.sort((e1, e2) -> e2.getEmployee_salary() - e1.getEmployee_salary());
+
+        List<String> topTenNames = new ArrayList<>();
+        int count = Math.min(10, validEmployees.size());
+        for (int i = 0; i < count; i++) {
+            topTenNames.add(validEmployees.get(i).getEmployee_name());
+        }
+        return topTenNames;
+    }
+
+    /*
+     * The answer to a read that failed with e: computed from the stale roster when staleRoster allows it, otherwise
+     * the failure is logged and rethrown wrapped in a RuntimeException carrying the given message.
+     */
+    private <T> T staleOrThrow(String failure, Exception e, Function<EmployeeRoster.Snapshot, T> fromStale) {
+        final var stale = staleRoster(e);
+        if (stale != null) {
+            return fromStale.apply(stale);
+        }
+        log.error("{}: {}", failure, e.getMessage(), e);
+        throw new RuntimeException(failure, e);
+    }
+
+    /*
+     * Like staleOrThrow for single lookups, which answer a failure without a stale roster with null.
+     */
+    private <T> T staleOrNull(String failure, Exception e, Function<EmployeeRoster.Snapshot, T> fromStale) {
+        final var stale = staleRoster(e);
+        if (stale != null) {
+            return fromStale.apply(stale);
+        }
+        log.error("{}: {}", failure, e.getMessage(), e);
+        return null;
+    }
+
+    /*
+     * With the circuit breaker enabled, an upstream failure is answered from the last good roster, and the response
+     * is flagged as stale through a request attribute. Null when there is nothing to fall back to.
+     */
+    private EmployeeRoster.Snapshot staleRoster(Exception e) {
+        if (!circuitBreaker.isEnabled() || !UpstreamCircuitBreaker.isUpstreamFailure(e)) {
+            return null;
+        }
+        final var snapshot = roster.snapshot();
+        if (snapshot == null) {
+            return null;
+        }
+        log.warn("Upstream unavailable ({}), serving roster fetched at {}", e.getMessage(), snapshot.fetchedAt());
+        final var request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(
+                    EmployeeRoster.STALE_SINCE_ATTRIBUTE, snapshot.fetchedAt(), RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot;
+    }
+
+    /*
+     * Each shard answers with its own top earners, highest salary first, so the overall top is a k-way merge of those.
+     */
+    private List<Employee> topEarners(int limit) {
+        final var perShard = retrievePerShard("query", client -> client.get()
+                .uri(uri -> uri.path("/employee")
+                        .queryParam("sort", "salary:desc")
+                        .queryParam("limit", limit)
+                        .build()));
+        if (perShard == null) {
+            return null;
+        }
+        return perShard.size() == 1 ? perShard.get(0) : UpstreamShards.merge(perShard, BY_SALARY_DESCENDING, limit);
+    }
+
+    /*
+     * Returns null when the upstream response carries no data, leaving the fallback to the caller.
+     */
+    private List<Employee> retrieveEmployees(
+            String operation, Function<RestClient, RestClient.RequestHeadersSpec<?>> request) {
+        final var perShard = retrievePerShard(operation, request);
+        return perShard == null ? null : concat(perShard);
+    }
+
+    /*
+     * One list per shard that answered with data, in shard order, or a single list when the upstream is not sharded.
+     * Null when no response carries data.
+     */
+    private List<List<Employee>> retrievePerShard(
+            String operation, Function<RestClient, RestClient.RequestHeadersSpec<?>> request) {
+        final var responses = shards.isSharded()
+                ? exchangeAll(operation, request)
+                : Collections.singletonList(exchange(operation, negotiate(request.apply(restClient))));
+
+        final var perShard = new ArrayList<List<Employee>>(responses.size());
+        for (Map<String, Object> response : responses) {
+            if (response == null || !response.containsKey("data")) {
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> employeeData = (List<Map<String, Object>>) response.get("data");
+
+            perShard.add(metrics.recordConvert(operation, () -> employeeData.stream()
+                    .map(data -> objectMapper.convertValue(data, Employee.class))
+                    .toList()));
+        }
+        if (perShard.isEmpty()) {
+            return null;
+        }
+        if ("list".equals(operation)) {
+            roster.update(concat(perShard));
+        }
+        return perShard;
+    }
+
+    private static List<Employee> concat(List<List<Employee>> perShard) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        final var employees = new ArrayList<Employee>(perShard.stream().mapToInt(List::size).sum());
+        perShard.forEach(employees::addAll);
+        return employees;
+    }
+
+    private Employee toEmployee(String operation, Object employeeData) {
+        return metrics.recordConvert(operation, () -> objectMapper.convertValue(employeeData, Employee.class));
+    }
+
+    private RestClient.RequestHeadersSpec<?> employeeRequest(String id) {
+        return negotiate(upstreamFor(id).get().uri("/employee/{id}", id));
+    }
+
+    /*
+     * Passthrough reads always ask for JSON, since the bytes are copied into a JSON response.
+     */
+    private RestClient.RequestHeadersSpec<?> rawRosterRequest() {
+        return ROSTER_REQUEST.apply(restClient).accept(MediaType.APPLICATION_JSON);
+    }
+
+    private RestClient.RequestHeadersSpec<?> rawEmployeeRequest(String id) {
+        return upstreamFor(id).get().uri("/employee/{id}", id).accept(MediaType.APPLICATION_JSON);
+    }
+
+    private UpstreamJson dataOf(String operation, byte[] response) {
+        if (response == null) {
+            return null;
+        }
+        return metrics.recordConvert(operation, () -> {
+            try {
+                return UpstreamJson.dataOf(response);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Malformed upstream response", e);
+            }
+        });
+    }
+
+    private List<Employee> decode(UpstreamJson employees) {
+        return metrics.recordConvert("list", () -> {
+            try {
+                return employees.decode(objectMapper, EMPLOYEES);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Malformed upstream response", e);
+            }
+        });
+    }
+
+    private UpstreamJson encode(Object value) {
+        try {
+            return UpstreamJson.of(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode " + value, e);
+        }
+    }
+
+    private RestClient upstreamFor(String id) {
+        return shards.isSharded() ? shards.owner(id) : restClient;
+    }
+
+    private RestClient upstreamForCreate() {
+        return shards.isSharded() ? shards.nextForCreate() : restClient;
+    }
+
+    /*
+     * Every upstream round trip goes through here, or through send for calls whose circuit permission and budget slot
+     * are already taken.
+     */
+    private Map<String, Object> exchange(String operation, RestClient.RequestHeadersSpec<?> request) {
+        return exchange(operation, request, DECODED_BODY);
+    }
+
+    private <T> T exchange(
+            String operation, RestClient.RequestHeadersSpec<?> request, Function<RestClient.ResponseSpec, T> body) {
+        circuitBreaker.acquirePermission();
+        try {
+            scheduler.acquire(operation);
+        } catch (UpstreamUnavailableException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+        return send(operation, request, body);
+    }
+
+    /*
+     * A fan-out is admitted once, like a single call: every shard receives one request of it.
+     */
+    private List<Map<String, Object>> exchangeAll(
+            String operation, Function<RestClient, RestClient.RequestHeadersSpec<?>> request) {
+        circuitBreaker.acquirePermission();
+        try {
+            scheduler.acquire(operation);
+        } catch (UpstreamUnavailableException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+        return shards.scatter(client -> send(operation, negotiate(request.apply(client))));
+    }
+
+    private Map<String, Object> send(String operation, RestClient.RequestHeadersSpec<?> request) {
+        return send(operation, request, DECODED_BODY);
+    }
+
+    /*
+     * A call whose thread was interrupted, such as the losing attempt of a hedge, was abandoned by its caller and says
+     * nothing about the upstream, so it only hands back its circuit permission.
+     */
+    private <T> T send(
+            String operation, RestClient.RequestHeadersSpec<?> request, Function<RestClient.ResponseSpec, T> body) {
+        try {
+            final var response = metrics.record(operation, () -> body.apply(request.retrieve()));
+            circuitBreaker.onResult(null);
+            return response;
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                circuitBreaker.releasePermission();
+                throw e;
+            }
+            if (e instanceof HttpClientErrorException.TooManyRequests) {
+                requestBudget.exhaust();
+            }
+            circuitBreaker.onResult(e);
+            throw e;
+        }
+    }
+
+    private RestClient.RequestHeadersSpec<?> negotiate(RestClient.RequestHeadersSpec<?> request) {
+        if (properties.getWireFormat() == UpstreamProperties.WireFormat.JSON) {
+            return request;
+        }
+        return request.accept(properties.getWireFormat().getMediaType(), JSON_FALLBACK);
+    }
 }
@@ -0,0 +1,205 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.UpstreamProperties;
+import com.reliaquest.api.config.UpstreamProperties.Priority;
+import com.reliaquest.api.metrics.ServerTiming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs an upstream call with at most one backup: if the first attempt has not completed within the configured
+ * percentile of recent latency, the {@link UpstreamCircuitBreaker} permits another call and the
+ * {@link UpstreamRequestBudget} has room, a second attempt is started. The first attempt to complete wins and the
+ * other is cancelled by interrupting its thread. A failed attempt only loses if the other one is still running.
+ */
+@Slf4j
+@Component
+public class HedgedRequests {
+
+    private final UpstreamProperties.Hedging settings;
+    private final UpstreamRequestBudget budget;
+    private final UpstreamCircuitBreaker circuitBreaker;
+    private final LatencyWindow latencies;
+    private final ExecutorService executor;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter skipped;
+    private final Counter skippedCircuit;
+
+    public HedgedRequests(
+            UpstreamProperties properties,
+            UpstreamRequestBudget budget,
+            UpstreamCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry) {
+        this.settings = properties.getHedging();
+        this.budget = budget;
+        this.circuitBreaker = circuitBreaker;
+        this.latencies = new LatencyWindow(Math.max(1, settings.getSampleSize()));
+        final var threadNumber = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            final var thread = new Thread(runnable, "upstream-hedge-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sent = hedgeCounter(meterRegistry, "sent");
+        this.won = hedgeCounter(meterRegistry, "won");
+        this.skipped = hedgeCounter(meterRegistry, "skipped_budget");
+        this.skippedCircuit = hedgeCounter(meterRegistry, "skipped_circuit");
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    /*
+     * primary goes through the circuit breaker and the budget like any regular call; backup must not, since its
+     * permission and slot are acquired here, and must report its result to the circuit breaker. Both run
+     * on the hedge pool under the caller's scheduling priority, each recording Server-Timing phases of its own; those
+     * of the attempt whose outcome is returned are charged to the caller.
+     */
+    public <T> T call(Supplier<T> primary, Supplier<T> backup) {
+        final var start = System.nanoTime();
+        final var priority = UpstreamScheduler.assignedPriority();
+        final var completion = new ExecutorCompletionService<T>(executor);
+        final var attempts = new ArrayList<Future<T>>(2);
+        final var timings = new ArrayList<ServerTiming>(2);
+        submit(completion, primary, priority, attempts, timings);
+        Future<T> outcome = null;
+        try {
+            final var hedgeDelay = hedgeDelayNanos();
+            var first = completion.poll(hedgeDelay, TimeUnit.NANOSECONDS);
+            if (first == null) {
+                if (!circuitBreaker.tryAcquirePermission()) {
+                    skippedCircuit.increment();
+                } else if (budget.tryAcquire()) {
+                    submit(completion, backup, priority, attempts, timings);
+                    sent.increment();
+                    log.debug("Upstream slower than {} ms, sent hedge", TimeUnit.NANOSECONDS.toMillis(hedgeDelay));
+                } else {
+                    circuitBreaker.releasePermission();
+                    skipped.increment();
+                }
+                first = completion.take();
+            }
+            outcome = first;
+            try {
+                final var result = first.get();
+                if (first != attempts.get(0)) {
+                    won.increment();
+                }
+                latencies.record(System.nanoTime() - start);
+                return result;
+            } catch (ExecutionException e) {
+                if (attempts.size() == 1) {
+                    throw rethrow(e);
+                }
+                final var second = completion.take();
+                try {
+                    final var result = second.get();
+                    outcome = second;
+                    return result;
+                } catch (ExecutionException ignored) {
+                    throw rethrow(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the upstream", e);
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+            ServerTiming.recordWait(
+                    System.nanoTime() - start, outcome == null ? null : timings.get(attempts.indexOf(outcome)));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private long hedgeDelayNanos() {
+        final var percentile = latencies.percentile(settings.getPercentile(), settings.getMinSamples());
+        if (percentile < 0) {
+            return settings.getInitialDelay().toNanos();
+        }
+        return Math.min(
+                Math.max(percentile, settings.getMinDelay().toNanos()),
+                settings.getMaxDelay().toNanos());
+    }
+
+    private static <T> void submit(
+            ExecutorCompletionService<T> completion,
+            Supplier<T> attempt,
+            Priority priority,
+            List<Future<T>> attempts,
+            List<ServerTiming> timings) {
+        final var timing = ServerTiming.forAttempt();
+        timings.add(timing);
+        attempts.add(completion.submit(
+                () -> ServerTiming.callAs(timing, () -> UpstreamScheduler.callAs(priority, attempt))));
+    }
+
+    static RuntimeException rethrow(ExecutionException e) {
+        final var cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.upstream.hedges")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /*
+     * Ring of the most recent successful call latencies.
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        /*
+         * -1 until minSamples latencies have been recorded.
+         */
+        synchronized long percentile(double percentile, int minSamples) {
+            if (size == 0 || size < minSamples) {
+                return -1;
+            }
+            final var sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            final var rank = (int) Math.ceil(percentile / 100 * size) - 1;
+            return sorted[Math.max(0, Math.min(rank, size - 1))];
+        }
+    }
+}
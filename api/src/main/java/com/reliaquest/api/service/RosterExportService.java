@@ -0,0 +1,140 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.ExportProperties;
+import com.reliaquest.api.config.UpstreamProperties.Priority;
+import com.reliaquest.api.export.ExportFormat;
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Exports of the {@link EmployeeRoster} snapshot. Large rosters are spilled once per version and format to a file
+ * under {@code employee.export.directory}, so repeated exports of an unchanged roster only cost a file transfer;
+ * spills of older versions are removed once no export is serving them and none has for a while.
+ */
+@Slf4j
+@Service
+public class RosterExportService {
+
+    private static final String SPILL_PREFIX = "roster-v";
+    private static final Duration SPILL_RETENTION = Duration.ofMinutes(1);
+
+    private final EmployeeService employeeService;
+    private final ExportProperties properties;
+
+    // Spill -> exports handed out and not yet released; guarded by this.
+    private final Map<Path, Integer> serving = new HashMap<>();
+
+    public RosterExportService(EmployeeService employeeService, ExportProperties properties) {
+        this.employeeService = employeeService;
+        this.properties = properties;
+    }
+
+    /*
+     * Roster versions restart with the process, so spills left by an earlier run may not match them.
+     */
+    @PostConstruct
+    void clearSpills() throws IOException {
+        Files.createDirectories(properties.getDirectory());
+        try (var files = Files.list(properties.getDirectory())) {
+            for (Path file : files.filter(RosterExportService::isSpill).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /*
+     * An export is a BACKGROUND client of the upstream, so re-reading the roster for it never delays interactive calls.
+     * An export with a file must be passed to release once it has been served.
+     */
+    public Export export(ExportFormat format) throws IOException {
+        final var snapshot = UpstreamScheduler.callAs(Priority.BACKGROUND, employeeService::rosterSnapshot);
+        if (snapshot == null) {
+            return new Export(0, format, List.of(), null);
+        }
+        if (snapshot.employees().size() < properties.getSpillThreshold()) {
+            return new Export(snapshot.version(), format, snapshot.employees(), null);
+        }
+        return new Export(snapshot.version(), format, snapshot.employees(), spill(snapshot, format));
+    }
+
+    private synchronized Path spill(EmployeeRoster.Snapshot snapshot, ExportFormat format) throws IOException {
+        final var file = properties
+                .getDirectory()
+                .resolve(SPILL_PREFIX + snapshot.version() + "." + format.getExtension());
+        if (Files.exists(file)) {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            serving.merge(file, 1, Integer::sum);
+            return file;
+        }
+        final var started = System.nanoTime();
+        final var partial = Files.createTempFile(properties.getDirectory(), SPILL_PREFIX, ".partial");
+        try (var out = new BufferedOutputStream(Files.newOutputStream(partial), 1 << 16)) {
+            format.write(snapshot.employees(), out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+        log.debug(
+                "Spilled roster version {} as {}: {} bytes in {} ms",
+                snapshot.version(),
+                format,
+                Files.size(file),
+                (System.nanoTime() - started) / 1_000_000);
+        serving.merge(file, 1, Integer::sum);
+        removeExpiredSpills(file);
+        return file;
+    }
+
+    /*
+     * Restarts the spill's retention, so it counts from the end of serving rather than its start. Tomcat's sendfile
+     * opens the file only after the controller returns, on the same thread; the retention keeps it in place until then.
+     */
+    public synchronized void release(Export export) {
+        final var file = export.file();
+        if (file == null) {
+            return;
+        }
+        serving.computeIfPresent(file, (spill, count) -> count == 1 ? null : count - 1);
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("Could not touch released spill {}", file, e);
+        }
+    }
+
+    private void removeExpiredSpills(Path current) throws IOException {
+        final var expiry = Instant.now().minus(SPILL_RETENTION);
+        try (var files = Files.list(properties.getDirectory())) {
+            for (Path file : files.filter(RosterExportService::isSpill).toList()) {
+                if (!file.equals(current)
+                        && !serving.containsKey(file)
+                        && Files.getLastModifiedTime(file).toInstant().isBefore(expiry)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static boolean isSpill(Path file) {
+        return file.getFileName().toString().startsWith(SPILL_PREFIX);
+    }
+
+    /*
+     * file is only set for a spilled roster; it holds exactly what format would write for employees.
+     */
+    public record Export(long version, ExportFormat format, List<Employee> employees, Path file) {}
+}
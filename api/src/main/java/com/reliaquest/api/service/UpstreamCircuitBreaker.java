@@ -0,0 +1,115 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.UpstreamProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Consecutive-failure circuit breaker for upstream calls, configured by {@code employee.upstream.circuit-breaker}.
+ * Only 429s, 5xx responses and I/O errors count as failures; any other answer, including a 404, proves the upstream is
+ * up. The state is exported as the {@code employee.upstream.circuit.state} gauge (0 closed, 1 half-open, 2 open).
+ */
+@Slf4j
+@Component
+public class UpstreamCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final UpstreamProperties.CircuitBreaker settings;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean probeInFlight;
+
+    public UpstreamCircuitBreaker(UpstreamProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getCircuitBreaker();
+        Gauge.builder("employee.upstream.circuit.state", this, breaker -> breaker.state().ordinal())
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    /*
+     * Once the open period is over, the first caller becomes the half-open probe; everyone else is refused until it
+     * reports back.
+     */
+    public synchronized void acquirePermission() {
+        if (!tryAcquirePermission()) {
+            throw new UpstreamUnavailableException("Upstream circuit is " + state.name().toLowerCase());
+        }
+    }
+
+    /*
+     * acquirePermission for optional calls such as hedges, which are skipped rather than failed when refused.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (!settings.isEnabled() || state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.nanoTime() - openUntil >= 0) {
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    /*
+     * For a permitted call that never reached the upstream or was abandoned before it answered, so a half-open probe
+     * slot is not lost.
+     */
+    public synchronized void releasePermission() {
+        probeInFlight = false;
+    }
+
+    public synchronized void onResult(RuntimeException failure) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        probeInFlight = false;
+        if (failure == null || !isUpstreamFailure(failure)) {
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= settings.getFailureThreshold()) {
+            openUntil = System.nanoTime() + settings.getOpenDuration().toNanos();
+            transition(State.OPEN);
+        }
+    }
+
+    public static boolean isUpstreamFailure(Throwable e) {
+        return e instanceof HttpClientErrorException.TooManyRequests
+                || e instanceof HttpServerErrorException
+                || e instanceof ResourceAccessException
+                || e instanceof UpstreamUnavailableException;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            log.warn("Upstream circuit {} -> {} after {} consecutive failures", state, next, consecutiveFailures);
+            state = next;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON value left as the bytes it arrived in: a range of an upstream response body that is written to our response
+ * as-is, without ever becoming {@code Employee} objects. The range is found with a streaming parser, which steps over
+ * the value's tokens without building anything from them.
+ */
+public final class UpstreamJson {
+
+    static final UpstreamJson EMPTY_ARRAY = of("[]".getBytes(StandardCharsets.UTF_8));
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final byte[] body;
+    private final int offset;
+    private final int length;
+
+    UpstreamJson(byte[] body, int offset, int length) {
+        this.body = body;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static UpstreamJson of(byte[] json) {
+        return new UpstreamJson(json, 0, json.length);
+    }
+
+    /*
+     * The envelope's data value when it is an object or array; null when it is missing, null or a scalar.
+     */
+    static UpstreamJson dataOf(byte[] body) throws IOException {
+        try (var parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var name = parser.currentName();
+                final var value = parser.nextToken();
+                if (!"data".equals(name)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY && value != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                final var start = parser.currentTokenLocation().getByteOffset();
+                parser.skipChildren();
+                final var end = parser.currentLocation().getByteOffset();
+                return new UpstreamJson(body, (int) start, (int) (end - start));
+            }
+            return null;
+        }
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /*
+     * Turns the value into objects after all, for the rare caller that needs them as well as the bytes.
+     */
+    <T> T decode(ObjectMapper objectMapper, TypeReference<T> type) throws IOException {
+        return objectMapper.readValue(body, offset, length, type);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(body, offset, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(body, offset, length, StandardCharsets.UTF_8);
+    }
+}
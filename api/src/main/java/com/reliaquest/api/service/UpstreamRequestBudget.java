@@ -0,0 +1,90 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.UpstreamProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks calls sent to the upstream against its known rate limit ({@code employee.upstream.budget}). Regular calls
+ * are only {@link #record() recorded}; optional traffic such as hedges must {@link #tryAcquire() acquire} a slot, which
+ * is refused once the window is full or the upstream has answered 429.
+ */
+@Component
+public class UpstreamRequestBudget {
+
+    private final long windowNanos;
+
+    /*
+     * Send times of the most recent calls, oldest at next once full. Only the last `requests` calls matter: the window
+     * is full exactly when the oldest of them is still inside it.
+     */
+    private final long[] sent;
+
+    private int next;
+    private int recorded;
+    private long exhaustedUntil;
+
+    public UpstreamRequestBudget(UpstreamProperties properties) {
+        this.windowNanos = properties.getBudget().getWindow().toNanos();
+        this.sent = new long[Math.max(1, properties.getBudget().getRequests())];
+    }
+
+    public synchronized void record() {
+        add(System.nanoTime());
+    }
+
+    public synchronized boolean tryAcquire() {
+        final var now = System.nanoTime();
+        if (now - exhaustedUntil < 0 || inWindow(now) >= sent.length) {
+            return false;
+        }
+        add(now);
+        return true;
+    }
+
+    /*
+     * The upstream said 429: nothing optional goes out until a full window has passed.
+     */
+    public synchronized void exhaust() {
+        exhaustedUntil = System.nanoTime() + windowNanos;
+    }
+
+    public synchronized int remaining() {
+        final var now = System.nanoTime();
+        return now - exhaustedUntil < 0 ? 0 : sent.length - inWindow(now);
+    }
+
+    /*
+     * How long until remaining() is above zero: 0 when a slot is free now, otherwise until the 429 back-off ends or the
+     * oldest call of the full window ages out of it.
+     */
+    public synchronized long nanosUntilAvailable() {
+        final var now = System.nanoTime();
+        if (now - exhaustedUntil < 0) {
+            return exhaustedUntil - now;
+        }
+        if (inWindow(now) < sent.length) {
+            return 0;
+        }
+        return Math.max(1, sent[next] + windowNanos - now);
+    }
+
+    public int limit() {
+        return sent.length;
+    }
+
+    private void add(long now) {
+        sent[next] = now;
+        next = (next + 1) % sent.length;
+        recorded = Math.min(recorded + 1, sent.length);
+    }
+
+    private int inWindow(long now) {
+        var count = 0;
+        for (int i = 0; i < recorded; i++) {
+            if (now - sent[i] < windowNanos) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,240 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.UpstreamProperties;
+import com.reliaquest.api.config.UpstreamProperties.Priority;
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admits upstream calls into the {@link UpstreamRequestBudget} by priority class ({@code employee.upstream.scheduler}).
+ * Callers queue until the budget has a free slot that no higher-priority waiter can use and their class is under its
+ * quota for the window; a caller still queued at its class's deadline is dropped with an
+ * {@link UpstreamUnavailableException}. One that is interrupted, such as the losing attempt of a hedge, gives up with
+ * the same exception but is not counted as dropped. Time spent queued is reported as the request's
+ * {@code backoff} through {@link UpstreamMetrics#recordBackoff}. When disabled every call is admitted at once and only
+ * recorded against the budget.
+ *
+ * <p>Calls are {@link Priority#INTERACTIVE} or {@link Priority#WRITE} by operation unless the calling thread runs
+ * under {@link #callAs(Priority, Supplier)}.
+ */
+@Slf4j
+@Component
+public class UpstreamScheduler {
+
+    /*
+     * Waiters re-check on this period as budget slots age out of the window.
+     */
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final ThreadLocal<Priority> PRIORITY = new ThreadLocal<>();
+
+    private static final UpstreamProperties.PriorityClass UNCONFIGURED =
+            new UpstreamProperties.PriorityClass(0, Duration.ZERO);
+
+    private final UpstreamProperties.Scheduler settings;
+    private final UpstreamRequestBudget budget;
+    private final UpstreamMetrics metrics;
+    private final long windowNanos;
+    /*
+     * One entry per request a class may hold in a window; zero-length for a class without quota.
+     */
+    private final Map<Priority, long[]> grants = new EnumMap<>(Priority.class);
+    private final Map<Priority, Integer> grantIndex = new EnumMap<>(Priority.class);
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> dropped = new EnumMap<>(Priority.class);
+    private long sequence;
+
+    public UpstreamScheduler(
+            UpstreamProperties properties,
+            UpstreamRequestBudget budget,
+            UpstreamMetrics metrics,
+            MeterRegistry meterRegistry) {
+        this.settings = properties.getScheduler();
+        this.budget = budget;
+        this.metrics = metrics;
+        this.windowNanos = properties.getBudget().getWindow().toNanos();
+        for (Priority priority : Priority.values()) {
+            grants.put(priority, new long[slots(priority, budget.limit())]);
+            grantIndex.put(priority, 0);
+            waitTimers.put(
+                    priority,
+                    Timer.builder("employee.upstream.scheduler.wait")
+                            .tag("priority", priority.name().toLowerCase())
+                            .register(meterRegistry));
+            dropped.put(
+                    priority,
+                    Counter.builder("employee.upstream.scheduler.dropped")
+                            .tag("priority", priority.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+        Gauge.builder("employee.upstream.scheduler.queued", waiters, PriorityQueue::size)
+                .register(meterRegistry);
+    }
+
+    /*
+     * Runs upstreamCalls on this thread under the given priority, e.g. BULK for queued background work.
+     */
+    public static <T> T callAs(Priority priority, Supplier<T> upstreamCalls) {
+        final var previous = PRIORITY.get();
+        PRIORITY.set(priority);
+        try {
+            return upstreamCalls.get();
+        } finally {
+            PRIORITY.set(previous);
+        }
+    }
+
+    /*
+     * The priority set by callAs on this thread, null when calls are classed by operation.
+     */
+    static Priority assignedPriority() {
+        return PRIORITY.get();
+    }
+
+    public void acquire(String operation) {
+        if (!settings.isEnabled()) {
+            budget.record();
+            return;
+        }
+        final var priority = priorityOf(operation);
+        final var start = System.nanoTime();
+        final var deadline = start + priorityClass(priority).getDeadline().toNanos();
+        lock.lock();
+        try {
+            final var waiter = new Waiter(priority, sequence++);
+            waiters.add(waiter);
+            try {
+                if (!admit(waiter)) {
+                    metrics.recordBackoff(operation, () -> awaitAdmission(waiter, deadline));
+                }
+            } finally {
+                if (waiters.remove(waiter)) {
+                    changed.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        waitTimers.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /*
+     * Called with the lock held once the waiter could not go at once.
+     */
+    private void awaitAdmission(Waiter waiter, long deadline) {
+        try {
+            while (!admit(waiter)) {
+                final var remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw drop(waiter, "deadline passed");
+                }
+                changed.awaitNanos(Math.min(remaining, POLL_NANOS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("Cancelled queued {} upstream call", waiter.priority());
+            throw new UpstreamUnavailableException("Cancelled queued " + waiter.priority() + " call");
+        }
+    }
+
+    /*
+     * A waiter goes when the budget has room, its class is under quota, and no better-placed waiter of a class under
+     * quota is ahead of it.
+     */
+    private boolean admit(Waiter waiter) {
+        final var now = System.nanoTime();
+        if (budget.remaining() == 0 || !underQuota(waiter.priority(), now)) {
+            return false;
+        }
+        for (Waiter other : waiters) {
+            if (other.compareTo(waiter) < 0 && underQuota(other.priority(), now)) {
+                return false;
+            }
+        }
+        if (!budget.tryAcquire()) {
+            return false;
+        }
+        final var slots = grants.get(waiter.priority());
+        final int index = grantIndex.get(waiter.priority());
+        slots[index] = now;
+        grantIndex.put(waiter.priority(), (index + 1) % slots.length);
+        return true;
+    }
+
+    private boolean underQuota(Priority priority, long now) {
+        final var slots = grants.get(priority);
+        var inWindow = 0;
+        for (long granted : slots) {
+            if (granted != 0 && now - granted < windowNanos) {
+                inWindow++;
+            }
+        }
+        return inWindow < slots.length;
+    }
+
+    /*
+     * A class with any quota at all gets at least one request per window, however small the budget, so it is slowed
+     * down rather than starved.
+     */
+    private int slots(Priority priority, int limit) {
+        final var quota = quota(priority);
+        if (quota == 0) {
+            return 0;
+        }
+        final var slots = (int) Math.floor(quota * limit);
+        if (slots == 0) {
+            log.info("{} quota of {} rounds down to no requests of {}, allowing 1", priority, quota, limit);
+        }
+        return Math.max(1, slots);
+    }
+
+    private UpstreamUnavailableException drop(Waiter waiter, String reason) {
+        dropped.get(waiter.priority()).increment();
+        log.warn("Dropped queued {} upstream call: {}", waiter.priority(), reason);
+        return new UpstreamUnavailableException("Upstream budget unavailable for " + waiter.priority() + " call");
+    }
+
+    private double quota(Priority priority) {
+        return Math.min(1, Math.max(0, priorityClass(priority).getQuota()));
+    }
+
+    /*
+     * A priority without a configured class has no quota and no deadline, so its calls are dropped at once.
+     */
+    private UpstreamProperties.PriorityClass priorityClass(Priority priority) {
+        return settings.getClasses().getOrDefault(priority, UNCONFIGURED);
+    }
+
+    private static Priority priorityOf(String operation) {
+        final var assigned = PRIORITY.get();
+        if (assigned != null) {
+            return assigned;
+        }
+        return "create".equals(operation) || "delete".equals(operation) ? Priority.WRITE : Priority.INTERACTIVE;
+    }
+
+    private record Waiter(Priority priority, long sequence) implements Comparable<Waiter> {
+
+        @Override
+        public int compareTo(Waiter other) {
+            final var byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.metrics.ServerTiming;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.springframework.web.client.RestClient;
+
+/**
+ * The Mock Employee API instances listed in {@code employee.upstream.shard-urls}. Shard {@code k} of {@code N} owns
+ * the ids whose leading 32 bits fall into the {@code k}-th of {@code N} equal ranges, the same split a server started
+ * with {@code mock.shard.index} and {@code mock.shard.count} mints its ids from. Lookups go to the owning shard,
+ * creates rotate over all shards, and roster reads are scattered to every shard in parallel and gathered in shard
+ * order.
+ */
+final class UpstreamShards {
+
+    private final List<RestClient> clients;
+    private final ExecutorService executor;
+    private final AtomicInteger nextCreate = new AtomicInteger();
+
+    UpstreamShards(RestClient.Builder restClientBuilder, List<String> baseUrls) {
+        this.clients = baseUrls.stream()
+                .map(baseUrl -> restClientBuilder.clone().baseUrl(baseUrl).build())
+                .toList();
+        final var threadNumber = new AtomicInteger();
+        this.executor = clients.isEmpty()
+                ? null
+                : Executors.newCachedThreadPool(runnable -> {
+                    final var thread = new Thread(runnable, "upstream-shard-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    boolean isSharded() {
+        return !clients.isEmpty();
+    }
+
+    /*
+     * Not a bean of its own, so its owner calls this on destroy.
+     */
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    RestClient owner(String id) {
+        return clients.get(shardOf(id, clients.size()));
+    }
+
+    RestClient nextForCreate() {
+        return clients.get(Math.floorMod(nextCreate.getAndIncrement(), clients.size()));
+    }
+
+    /*
+     * Runs call against every shard at once and returns the results in shard order. The first failure is rethrown
+     * as soon as it happens and the calls still running are cancelled.
+     */
+    <T> List<T> scatter(Function<RestClient, T> call) {
+        final var start = System.nanoTime();
+        final var completion = new ExecutorCompletionService<T>(executor);
+        final var calls = new ArrayList<Future<T>>(clients.size());
+        try {
+            for (RestClient client : clients) {
+                calls.add(completion.submit(() -> call.apply(client)));
+            }
+            for (int i = 0; i < calls.size(); i++) {
+                completion.take().get();
+            }
+            final var results = new ArrayList<T>(calls.size());
+            for (Future<T> result : calls) {
+                results.add(result.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw HedgedRequests.rethrow(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the upstream shards", e);
+        } finally {
+            calls.forEach(pending -> pending.cancel(true));
+            ServerTiming.recordUpstream(System.nanoTime() - start);
+        }
+    }
+
+    /*
+     * The first limit elements of lists that are each already sorted by order, merged through a heap holding one
+     * cursor per list.
+     */
+    static <T> List<T> merge(List<List<T>> sorted, Comparator<? super T> order, int limit) {
+        final var cursors = new PriorityQueue<Cursor<T>>(
+                Math.max(1, sorted.size()), (a, b) -> order.compare(a.head(), b.head()));
+        for (List<T> list : sorted) {
+            if (!list.isEmpty()) {
+                cursors.add(new Cursor<>(list, 0));
+            }
+        }
+        final var merged = new ArrayList<T>(Math.min(limit, sorted.stream().mapToInt(List::size).sum()));
+        while (merged.size() < limit && !cursors.isEmpty()) {
+            final var cursor = cursors.poll();
+            merged.add(cursor.head());
+            if (cursor.position() + 1 < cursor.list().size()) {
+                cursors.add(new Cursor<>(cursor.list(), cursor.position() + 1));
+            }
+        }
+        return merged;
+    }
+
+    /*
+     * Ids that are not UUIDs cannot have been minted by a shard; they are spread by hash code so the lookup still
+     * gets a 404 from somewhere.
+     */
+    static int shardOf(String id, int count) {
+        long leading;
+        try {
+            leading = UUID.fromString(id).getMostSignificantBits() >>> 32;
+        } catch (IllegalArgumentException e) {
+            leading = Integer.toUnsignedLong(id.hashCode());
+        }
+        return (int) ((leading * count) >>> 32);
+    }
+
+    private record Cursor<T>(List<T> list, int position) {
+
+        T head() {
+            return list.get(position);
+        }
+    }
+}
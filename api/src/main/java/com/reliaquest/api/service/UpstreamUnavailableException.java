@@ -0,0 +1,11 @@
+package com.reliaquest.api.service;
+
+/**
+ * Thrown instead of calling the upstream while the {@link UpstreamCircuitBreaker} is open.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
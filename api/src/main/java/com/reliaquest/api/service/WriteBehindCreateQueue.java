@@ -0,0 +1,349 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.UpstreamProperties.Priority;
+import com.reliaquest.api.config.WriteBehindProperties;
+import com.reliaquest.api.model.CreateTicket;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Write-behind for employee creation. {@link #submit(EmployeeInput)} journals the input and returns a ticket at once;
+ * a single background thread then creates the employees in submission order as {@link Priority#BULK} calls, only
+ * sending when the {@link UpstreamRequestBudget} has room and waiting out 429s and open circuits rather than failing
+ * the ticket. A create is not idempotent, so any other upstream failure fails the ticket instead of risking a
+ * duplicate employee.
+ *
+ * <p>The journal is an fsync'd NDJSON log in {@code employee.write-behind.directory}; on startup it is replayed, so
+ * tickets survive a restart and pending ones are drained again. On startup and every {@code compact-every} completions
+ * it is compacted to one line per ticket, dropping tickets completed longer than {@code completed-retention} ago from
+ * both the journal and memory.
+ */
+@Slf4j
+@Service
+@Lazy(false)
+@ConditionalOnProperty(prefix = "employee.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindCreateQueue {
+
+    private static final String JOURNAL = "tickets.ndjson";
+
+    /*
+     * How long stop waits for a create in flight before closing the journal under it.
+     */
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(10);
+
+    private final EmployeeService employeeService;
+    private final UpstreamRequestBudget requestBudget;
+    private final ObjectMapper objectMapper;
+    private final WriteBehindProperties properties;
+    private final Map<String, CreateTicket> tickets = new ConcurrentHashMap<>();
+    private final Map<String, EmployeeInput> inputs = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> pending = new LinkedBlockingQueue<>();
+    private final Thread drainer = new Thread(this::drain, "write-behind-drainer");
+    private FileChannel journal;
+    private int completedSinceCompaction;
+
+    public WriteBehindCreateQueue(
+            EmployeeService employeeService,
+            UpstreamRequestBudget requestBudget,
+            ObjectMapper objectMapper,
+            WriteBehindProperties properties,
+            MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.requestBudget = requestBudget;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        Gauge.builder("employee.write.behind.pending", pending, BlockingQueue::size)
+                .register(meterRegistry);
+        drainer.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(properties.getDirectory());
+        replay();
+        journal = openJournal();
+        drainer.start();
+        log.info("Write-behind queue started with {} pending of {} tickets", pending.size(), tickets.size());
+    }
+
+    @PreDestroy
+    void stop() throws IOException, InterruptedException {
+        drainer.interrupt();
+        drainer.join(SHUTDOWN_GRACE.toMillis());
+        synchronized (this) {
+            journal.close();
+        }
+    }
+
+    /*
+     * The ticket is durable once this returns. It is journaled and recorded under the lock compaction holds, so a
+     * compaction either sees it or runs before it is journaled.
+     */
+    public CreateTicket submit(EmployeeInput input) {
+        final var ticket = CreateTicket.pending(UUID.randomUUID().toString(), Instant.now());
+        synchronized (this) {
+            append(JournalEntry.submitted(ticket, input));
+            inputs.put(ticket.ticket(), input);
+            tickets.put(ticket.ticket(), ticket);
+        }
+        pending.add(ticket.ticket());
+        log.debug("Accepted create of {} as ticket {}", input.getName(), ticket.ticket());
+        return ticket;
+    }
+
+    public Optional<CreateTicket> find(String ticket) {
+        return Optional.ofNullable(tickets.get(ticket));
+    }
+
+    /*
+     * A ticket that cannot be completed is logged and left behind rather than stopping the drain for every later one.
+     */
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final var ticket = pending.take();
+                try {
+                    complete(ticket, create(inputs.get(ticket)));
+                } catch (RuntimeException e) {
+                    log.error("Failed to complete write-behind ticket {}: {}", ticket, e.getMessage(), e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Failures that prove the upstream never processed the create are retried until it succeeds; anything else fails
+     * the ticket, since after a 5xx or a broken exchange the employee may already exist.
+     */
+    private Outcome create(EmployeeInput input) throws InterruptedException {
+        while (true) {
+            awaitBudget();
+            try {
+                final var employee = UpstreamScheduler.callAs(Priority.BULK, () -> employeeService.create(input));
+                return employee == null ? Outcome.failure("Upstream returned no employee") : Outcome.success(employee);
+            } catch (RuntimeException e) {
+                if (!neverProcessed(e)) {
+                    if (UpstreamCircuitBreaker.isUpstreamFailure(e)) {
+                        log.warn(
+                                "Write-behind create of {} may have reached the upstream, not retrying: {}",
+                                input.getName(),
+                                e.getMessage());
+                    } else {
+                        log.error("Write-behind create of {} failed: {}", input.getName(), e.getMessage(), e);
+                    }
+                    return Outcome.failure(e.getMessage());
+                }
+                log.debug("Upstream unavailable for write-behind create, retrying: {}", e.getMessage());
+                sleep(properties.getRetryDelay());
+            }
+        }
+    }
+
+    /*
+     * A 429 is refused before the request is handled, a call the circuit breaker or scheduler turned away was never
+     * sent, and a refused connection never delivered it.
+     */
+    static boolean neverProcessed(Throwable e) {
+        if (e instanceof HttpClientErrorException.TooManyRequests || e instanceof UpstreamUnavailableException) {
+            return true;
+        }
+        if (!(e instanceof ResourceAccessException)) {
+            return false;
+        }
+        for (var cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Sleeps until the budget has a free slot instead of polling it.
+     */
+    private void awaitBudget() throws InterruptedException {
+        for (var wait = requestBudget.nanosUntilAvailable(); wait > 0; wait = requestBudget.nanosUntilAvailable()) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /*
+     * The outcome is known even when it cannot be journaled, so the ticket reports it; only a restart would send the
+     * create again.
+     */
+    private void complete(String ticketId, Outcome outcome) {
+        final var now = Instant.now();
+        final var ticket = tickets.get(ticketId);
+        final var completed = outcome.employee() != null
+                ? ticket.created(outcome.employee(), now)
+                : ticket.failed(outcome.error(), now);
+        synchronized (this) {
+            try {
+                append(JournalEntry.completed(completed));
+            } catch (UncheckedIOException e) {
+                log.error(
+                        "Failed to journal write-behind ticket {} as {}, it is sent again after a restart: {}",
+                        ticketId,
+                        completed.status(),
+                        e.getMessage());
+            }
+            tickets.put(ticketId, completed);
+            inputs.remove(ticketId);
+        }
+        log.debug("Write-behind ticket {} {}", ticketId, completed.status());
+        if (++completedSinceCompaction >= properties.getCompactEvery()) {
+            completedSinceCompaction = 0;
+            compactRunning();
+        }
+    }
+
+    /*
+     * Swaps the open journal for a compacted one. Appends wait on the same lock, so none is lost in between; a failed
+     * compaction leaves the journal as it was.
+     */
+    private synchronized void compactRunning() {
+        final var file = properties.getDirectory().resolve(JOURNAL);
+        try {
+            compact(file);
+            final var previous = journal;
+            journal = openJournal();
+            previous.close();
+        } catch (IOException e) {
+            log.warn("Failed to compact write-behind journal, keeping it as is: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void append(JournalEntry entry) {
+        try {
+            final var line = objectMapper.writeValueAsBytes(entry);
+            final var buffer = ByteBuffer.allocate(line.length + 1).put(line).put((byte) '\n').flip();
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to journal write-behind ticket", e);
+        }
+    }
+
+    /*
+     * A torn last line from a crash mid-append is skipped; its ticket was never acknowledged.
+     */
+    private void replay() throws IOException {
+        final var file = properties.getDirectory().resolve(JOURNAL);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (var lines = Files.lines(file)) {
+            lines.filter(line -> !line.isBlank()).forEach(line -> {
+                try {
+                    final var entry = objectMapper.readValue(line, JournalEntry.class);
+                    tickets.put(entry.ticket().ticket(), entry.ticket());
+                    if (entry.input() != null) {
+                        inputs.put(entry.ticket().ticket(), entry.input());
+                    } else {
+                        inputs.remove(entry.ticket().ticket());
+                    }
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable write-behind journal line: {}", e.getMessage());
+                }
+            });
+        }
+        tickets.values().stream()
+                .filter(ticket -> ticket.status() == CreateTicket.Status.PENDING)
+                .sorted((a, b) -> a.submittedAt().compareTo(b.submittedAt()))
+                .forEach(ticket -> pending.add(ticket.ticket()));
+        compact(file);
+    }
+
+    /*
+     * Drops expired tickets, then writes one line per remaining ticket next to the journal and moves it over it.
+     */
+    private void compact(Path file) throws IOException {
+        final var expiredBefore = Instant.now().minus(properties.getCompletedRetention());
+        tickets.values()
+                .removeIf(ticket -> ticket.completedAt() != null && ticket.completedAt().isBefore(expiredBefore));
+        final var compacted = file.resolveSibling(JOURNAL + ".compacting");
+        try (var out = Files.newBufferedWriter(compacted)) {
+            for (CreateTicket ticket : tickets.values()) {
+                final var input = inputs.get(ticket.ticket());
+                final var entry =
+                        input != null ? JournalEntry.submitted(ticket, input) : JournalEntry.completed(ticket);
+                out.write(objectMapper.writeValueAsString(entry));
+                out.newLine();
+            }
+        }
+        try (var channel = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private FileChannel openJournal() throws IOException {
+        return FileChannel.open(
+                properties.getDirectory().resolve(JOURNAL),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private static void sleep(Duration duration) throws InterruptedException {
+        Thread.sleep(Math.max(1, duration.toMillis()));
+    }
+
+    /*
+     * input is only present while the ticket is pending.
+     */
+    record JournalEntry(CreateTicket ticket, EmployeeInput input) {
+
+        static JournalEntry submitted(CreateTicket ticket, EmployeeInput input) {
+            return new JournalEntry(ticket, input);
+        }
+
+        static JournalEntry completed(CreateTicket ticket) {
+            return new JournalEntry(ticket, null);
+        }
+    }
+
+    private record Outcome(Employee employee, String error) {
+
+        static Outcome success(Employee employee) {
+            return new Outcome(employee, null);
+        }
+
+        static Outcome failure(String error) {
+            return new Outcome(null, error);
+        }
+    }
+}
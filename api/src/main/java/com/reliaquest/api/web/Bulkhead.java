@@ -0,0 +1,19 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.BulkheadProperties.EndpointClass;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a handler method into the bulkhead of its {@link EndpointClass}; see {@link BulkheadInterceptor}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    EndpointClass value();
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@link BulkheadInterceptor} when {@code employee.bulkheads.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.bulkheads", name = "enabled", havingValue = "true")
+public class BulkheadConfiguration implements WebMvcConfigurer {
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadConfiguration(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BulkheadInterceptor(properties, meterRegistry));
+    }
+}
@@ -0,0 +1,122 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.BulkheadProperties;
+import com.reliaquest.api.config.BulkheadProperties.EndpointClass;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits requests to {@link Bulkhead}-annotated handlers through their class's bounded pool. A request finding the
+ * pool full waits for a slot only if fewer than {@code maxQueued} are already waiting, and for at most
+ * {@code maxWait}; otherwise it is rejected with 503 and {@code Retry-After} before the handler runs.
+ */
+@Slf4j
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String ACQUIRED_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".acquired";
+
+    private final Map<EndpointClass, Pool> pools = new EnumMap<>(EndpointClass.class);
+
+    public BulkheadInterceptor(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            final var settings = properties.getPools().getOrDefault(endpointClass, new BulkheadProperties.Pool());
+            pools.put(endpointClass, new Pool(settings, endpointClass, meterRegistry));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!(handler instanceof HandlerMethod method) || !method.hasMethodAnnotation(Bulkhead.class)) {
+            return true;
+        }
+        final var endpointClass = method.getMethodAnnotation(Bulkhead.class).value();
+        final var pool = pools.get(endpointClass);
+        if (!pool.tryAcquire()) {
+            log.debug("Bulkhead {} full, rejecting {} {}", endpointClass, request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return false;
+        }
+        request.setAttribute(ACQUIRED_ATTRIBUTE, pool);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        if (request.getAttribute(ACQUIRED_ATTRIBUTE) instanceof Pool pool) {
+            request.removeAttribute(ACQUIRED_ATTRIBUTE);
+            pool.release();
+        }
+    }
+
+    private static final class Pool {
+
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final int maxQueued;
+        private final long maxWaitNanos;
+        private final Counter rejected;
+
+        private Pool(BulkheadProperties.Pool settings, EndpointClass endpointClass, MeterRegistry meterRegistry) {
+            final var maxConcurrent = Math.max(1, settings.getMaxConcurrent());
+            this.permits = new Semaphore(maxConcurrent);
+            this.maxQueued = Math.max(0, settings.getMaxQueued());
+            this.maxWaitNanos = settings.getMaxWait().toNanos();
+            final var tag = endpointClass.name().toLowerCase();
+            Gauge.builder("employee.bulkhead.max.concurrent", () -> maxConcurrent)
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder(
+                            "employee.bulkhead.active",
+                            permits,
+                            semaphore -> maxConcurrent - semaphore.availablePermits())
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("employee.bulkhead.queued", queued, AtomicInteger::get)
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("employee.bulkhead.rejected")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        }
+
+        private boolean tryAcquire() throws InterruptedException {
+            if (permits.tryAcquire()) {
+                return true;
+            }
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                rejected.increment();
+                return false;
+            }
+            try {
+                if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+                rejected.increment();
+                return false;
+            } finally {
+                queued.decrementAndGet();
+            }
+        }
+
+        private void release() {
+            permits.release();
+        }
+    }
+}
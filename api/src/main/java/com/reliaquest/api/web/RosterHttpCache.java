@@ -0,0 +1,45 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.HttpCacheProperties;
+import com.reliaquest.api.service.EmployeeRoster;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conditional GETs for responses computed from the {@link EmployeeRoster} snapshot. The strong {@code ETag} is the
+ * snapshot's SHA-256 content fingerprint, so it changes with every change to the roster and only then, is the same on
+ * every api instance and survives restarts; Spring MVC turns a matching {@code If-None-Match} into a 304 without a
+ * body. Tomcat weakens the tag on responses it compresses, which {@code If-None-Match}'s weak comparison still
+ * matches.
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee.http-cache", name = "enabled", havingValue = "true")
+public class RosterHttpCache {
+
+    private final EmployeeService employeeService;
+    private final CacheControl cacheControl;
+
+    public RosterHttpCache(EmployeeService employeeService, HttpCacheProperties properties) {
+        this.employeeService = employeeService;
+        this.cacheControl = CacheControl.maxAge(properties.getMaxAge());
+    }
+
+    /*
+     * Falls back to an uncached answer from uncached when the roster has never been read.
+     */
+    public <T> ResponseEntity<T> respond(Function<EmployeeRoster.Snapshot, T> cached, Supplier<T> uncached) {
+        final var snapshot = employeeService.rosterSnapshot();
+        if (snapshot == null) {
+            return ResponseEntity.ok(uncached.get());
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.fingerprint())
+                .cacheControl(cacheControl)
+                .body(cached.apply(snapshot));
+    }
+}
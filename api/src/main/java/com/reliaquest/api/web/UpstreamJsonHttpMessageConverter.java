@@ -0,0 +1,47 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.service.UpstreamJson;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes an {@link UpstreamJson} body by copying its bytes straight to the response, with a {@code Content-Length}.
+ * Registered ahead of the Jackson converter, which would otherwise serialize the wrapper itself.
+ */
+@Component
+public class UpstreamJsonHttpMessageConverter extends AbstractHttpMessageConverter<UpstreamJson> {
+
+    public UpstreamJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UpstreamJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected UpstreamJson readInternal(Class<? extends UpstreamJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Upstream JSON is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(UpstreamJson json, MediaType contentType) {
+        return (long) json.length();
+    }
+
+    @Override
+    protected void writeInternal(UpstreamJson json, HttpOutputMessage outputMessage) throws IOException {
+        json.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,193 @@
+package com.reliaquest.api.allocation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs every api endpoint against an in-process stub upstream serving a fixed roster and fails when the bytes
+ * allocated on the request thread exceed the budget in {@code allocation-budgets.properties}. MockMvc and
+ * {@link SimpleClientHttpRequestFactory} keep the whole request, including the upstream exchange, on the test thread,
+ * so {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} sees all of it.
+ */
+@Slf4j
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "logging.level.com.reliaquest=INFO")
+class AllocationBudgetTest {
+
+    static final int ROSTER_SIZE = 50;
+
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 51;
+    private static final String EMPLOYEE_ID = "employee-0";
+    private static final String STATUS = "Successfully processed request.";
+
+    private static HttpServer upstream;
+    private static Properties budgets;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TestConfiguration
+    static class SameThreadUpstreamConfiguration {
+
+        @Bean
+        RestClientCustomizer sameThreadRequestFactory() {
+            return builder -> builder.requestFactory(new SimpleClientHttpRequestFactory());
+        }
+    }
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        upstream = startStubUpstream(new ObjectMapper());
+        registry.add(
+                "employee.upstream.base-url",
+                () -> "http://localhost:" + upstream.getAddress().getPort() + "/api/v1");
+    }
+
+    @BeforeAll
+    static void loadBudgets() throws IOException {
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            assertNotNull(in, "allocation-budgets.properties should be on the test classpath");
+            budgets.load(in);
+        }
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+        "list,           GET,    /api/v1/employee",
+        "search,         GET,    /api/v1/employee/search/Employee",
+        "get,            GET,    /api/v1/employee/" + EMPLOYEE_ID,
+        "highest-salary, GET,    /api/v1/employee/highestSalary",
+        "top-ten,        GET,    /api/v1/employee/topTenHighestEarningEmployeeNames",
+        "create,         POST,   /api/v1/employee",
+        "delete,         DELETE, /api/v1/employee/" + EMPLOYEE_ID
+    })
+    void staysWithinAllocationBudget(String endpoint, String method, String path) throws Exception {
+        final var budget = Long.parseLong(budgets.getProperty(endpoint));
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            perform(method, path);
+        }
+        final var samples = new long[MEASURED_REQUESTS];
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            samples[i] = allocatedBytes(() -> perform(method, path));
+        }
+        Arrays.sort(samples);
+        final var median = samples[MEASURED_REQUESTS / 2];
+
+        log.info("{} {} allocated {} bytes per request (median), budget {}", method, path, median, budget);
+        assertTrue(
+                median <= budget,
+                "%s allocated %d bytes per request, over its budget of %d".formatted(endpoint, median, budget));
+    }
+
+    private void perform(String method, String path) throws Exception {
+        final var request = request(HttpMethod.valueOf(method), path);
+        if ("POST".equals(method)) {
+            request.contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"name\":\"New Hire\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}");
+        }
+        mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    private static long allocatedBytes(ThrowingRunnable request) throws Exception {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var threadId = Thread.currentThread().getId();
+        final var before = threads.getThreadAllocatedBytes(threadId);
+        request.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /*
+     * Serves pre-serialized bodies so the stub itself allocates next to nothing per request.
+     */
+    private static HttpServer startStubUpstream(ObjectMapper objectMapper) throws IOException {
+        final var roster = IntStream.range(0, ROSTER_SIZE)
+                .mapToObj(i -> Map.of(
+                        "id", "employee-" + i,
+                        "employee_name", "Employee " + i,
+                        "employee_salary", 40_000 + i * 1_000,
+                        "employee_age", 20 + i % 40,
+                        "employee_title", "Title " + i,
+                        "employee_email", "employee" + i + "@company.com"))
+                .toList();
+        final var listBody = objectMapper.writeValueAsBytes(Map.of("data", roster, "status", STATUS));
+        final var employeeBody = objectMapper.writeValueAsBytes(Map.of("data", roster.get(0), "status", STATUS));
+        final var deleteBody = objectMapper.writeValueAsBytes(Map.of("data", true, "status", STATUS));
+
+        final var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            final var path = exchange.getRequestURI().getPath();
+            final var body = switch (exchange.getRequestMethod()) {
+                case "GET" -> path.equals("/api/v1/employee") ? listBody : employeeBody;
+                case "POST" -> employeeBody;
+                case "DELETE" -> deleteBody;
+                default -> null;
+            };
+            respond(exchange, body);
+        });
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            if (body == null) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,102 @@
+package test.java.com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.controller.AsyncEmployeeController;
+import com.reliaquest.api.model.CreateTicket;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.WriteBehindCreateQueue;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AsyncEmployeeController.class, properties = "employee.write-behind.enabled=true")
+@ContextConfiguration(classes = {ApiApplication.class, AsyncEmployeeController.class})
+class AsyncEmployeeControllerTest {
+
+    private static final Instant SUBMITTED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WriteBehindCreateQueue createQueue;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createEmployee_AcceptedWithTicketLocation() throws Exception {
+        when(createQueue.submit(any(EmployeeInput.class))).thenReturn(CreateTicket.pending("t-1", SUBMITTED_AT));
+
+        mockMvc.perform(post("/api/v1/employee/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input("John Doe"))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/v1/employee/async/t-1"))
+                .andExpect(jsonPath("$.ticket").value("t-1"))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.employee").doesNotExist());
+
+        verify(createQueue).submit(argThat(input -> "John Doe".equals(input.getName())));
+    }
+
+    @Test
+    void createEmployee_InvalidInputIsNotQueued() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input(""))))
+                .andExpect(status().isBadRequest());
+
+        verify(createQueue, never()).submit(any());
+    }
+
+    @Test
+    void getTicket_ReportsStatusUntilCompleted() throws Exception {
+        final var pending = CreateTicket.pending("t-1", SUBMITTED_AT);
+        final var employee = new Employee();
+        employee.setId("1");
+        employee.setEmployee_name("John Doe");
+        when(createQueue.find("t-1"))
+                .thenReturn(Optional.of(pending))
+                .thenReturn(Optional.of(pending.created(employee, SUBMITTED_AT.plusSeconds(1))));
+
+        mockMvc.perform(get("/api/v1/employee/async/t-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        mockMvc.perform(get("/api/v1/employee/async/t-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.employee.employee_name").value("John Doe"));
+    }
+
+    @Test
+    void getTicket_NotFoundForUnknownTicket() throws Exception {
+        when(createQueue.find("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/employee/async/missing")).andExpect(status().isNotFound());
+    }
+
+    private static EmployeeInput input(String name) {
+        final var input = new EmployeeInput();
+        input.setName(name);
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
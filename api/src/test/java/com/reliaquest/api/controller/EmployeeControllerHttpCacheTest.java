@@ -0,0 +1,115 @@
+package test.java.com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.config.HttpCacheProperties;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRoster;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.web.RosterHttpCache;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = EmployeeController.class, properties = "employee.http-cache.enabled=true")
+@ContextConfiguration(classes = {ApiApplication.class, EmployeeController.class, RosterHttpCache.class})
+@EnableConfigurationProperties(HttpCacheProperties.class)
+class EmployeeControllerHttpCacheTest {
+
+    private static final String ETAG = "\"2a\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        Employee employee = employee("1", "John Doe");
+        when(employeeService.rosterSnapshot())
+                .thenReturn(new EmployeeRoster.Snapshot(
+                        3, "2a", List.of(employee), Map.of("1", employee), Instant.now()));
+    }
+
+    @Test
+    void getAllEmployees_CarriesETagAndCacheControl() throws Exception {
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30"))
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"));
+
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_NotModifiedForMatchingETag() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/highestSalary").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/employee/highestSalary").header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string("50000"));
+    }
+
+    @Test
+    void getAllEmployees_ChangesETagWithRosterContent() throws Exception {
+        final var roster = new EmployeeRoster();
+        roster.update(List.of(employee("1", "Aa")));
+        when(employeeService.rosterSnapshot()).thenAnswer(invocation -> roster.snapshot());
+
+        final var before = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        roster.update(List.of(employee("1", "BB")));
+
+        final var after = mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("BB"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(before, after);
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, after))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_FallsBackWithoutRoster() throws Exception {
+        when(employeeService.rosterSnapshot()).thenReturn(null);
+        when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(List.of("John Doe"));
+
+        mockMvc.perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0]").value("John Doe"));
+    }
+
+    private static Employee employee(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(50000);
+        return employee;
+    }
+}
@@ -0,0 +1,89 @@
+package test.java.com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.UpstreamJson;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(EmployeeController.class)
+@ContextConfiguration(classes = {ApiApplication.class, EmployeeController.class})
+class EmployeeControllerPassthroughTest {
+
+    private static final String EMPLOYEES =
+            "[ {\"id\":\"1\", \"employee_name\":\"John Doe\",\"employee_salary\":50000, \"unknown\":true} ]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeService.isPassthrough()).thenReturn(true);
+    }
+
+    @Test
+    void getAllEmployees_WritesUpstreamBytesAsTheyAre() throws Exception {
+        when(employeeService.getAllEmployeesJson()).thenReturn(json(EMPLOYEES));
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, EMPLOYEES.length()))
+                .andExpect(content().string(EMPLOYEES));
+
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void getAllEmployees_DecodesWhenPassthroughDeclines() throws Exception {
+        when(employeeService.getAllEmployeesJson()).thenReturn(null);
+        when(employeeService.getAllEmployees()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isOk()).andExpect(content().json("[]"));
+    }
+
+    @Test
+    void getEmployeeById_WritesUpstreamBytesAsTheyAre() throws Exception {
+        final var employee = "{\"id\":\"1\",\"employee_name\":\"John Doe\"}";
+        when(employeeService.getEmployeeJsonById("1")).thenReturn(json(employee));
+
+        mockMvc.perform(get("/api/v1/employee/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(employee));
+
+        verify(employeeService, never()).getEmployeeById(anyString());
+    }
+
+    @Test
+    void getEmployeeById_EmptyWhenNotFound() throws Exception {
+        when(employeeService.getEmployeeJsonById("missing")).thenReturn(null);
+
+        mockMvc.perform(get("/api/v1/employee/missing"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+
+        verify(employeeService, never()).getEmployeeById(anyString());
+    }
+
+    private static UpstreamJson json(String value) {
+        return UpstreamJson.of(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ExportFormatTest {
+
+    @Test
+    void csv_QuotesOnlyFieldsThatNeedIt() throws IOException {
+        final var employees = List.of(employee("1", "John Smith", 50_000), employee("2", "Smith, \"Jr\"", null));
+
+        final var csv = new String(write(ExportFormat.CSV, employees), StandardCharsets.UTF_8);
+
+        assertEquals(
+                RosterCsvWriter.HEADER
+                        + "1,John Smith,50000,30,Engineer,john@company.com\r\n"
+                        + "2,\"Smith, \"\"Jr\"\"\",,30,Engineer,john@company.com\r\n",
+                csv);
+    }
+
+    @Test
+    void columnar_WritesColumnsPerRowGroup() throws IOException {
+        final var employees = IntStream.range(0, RosterColumnarWriter.GROUP_SIZE + 3)
+                .mapToObj(i -> employee(String.valueOf(i), "Employee " + i, i % 7 == 0 ? null : i))
+                .toList();
+        final var in = new DataInputStream(new ByteArrayInputStream(write(ExportFormat.COLUMNAR, employees)));
+
+        assertArrayEquals(RosterColumnarWriter.MAGIC, in.readNBytes(4));
+        assertEquals(RosterColumnarWriter.VERSION, in.readUnsignedByte());
+        final var ids = new ArrayList<String>();
+        final var salaries = new ArrayList<Integer>();
+        for (int rows = in.readInt(); rows > 0; rows = in.readInt()) {
+            for (int i = 0; i < rows; i++) {
+                ids.add(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8));
+            }
+            skipStrings(in, rows);
+            for (int i = 0; i < rows; i++) {
+                final var salary = in.readInt();
+                salaries.add(salary == RosterColumnarWriter.NULL_INT ? null : salary);
+            }
+            in.skipNBytes(4L * rows);
+            skipStrings(in, rows);
+            skipStrings(in, rows);
+        }
+
+        assertEquals(0, in.available());
+        assertEquals(employees.stream().map(Employee::getId).toList(), ids);
+        assertEquals(employees.stream().map(Employee::getEmployee_salary).toList(), salaries);
+    }
+
+    @Test
+    void fromName_IgnoresCase() {
+        assertEquals(Optional.of(ExportFormat.COLUMNAR), ExportFormat.fromName("Columnar"));
+        assertEquals(Optional.empty(), ExportFormat.fromName("xml"));
+    }
+
+    private static void skipStrings(DataInputStream in, int rows) throws IOException {
+        for (int i = 0; i < rows; i++) {
+            in.skipNBytes(Math.max(0, in.readInt()));
+        }
+    }
+
+    private static byte[] write(ExportFormat format, List<Employee> employees) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        format.write(employees, out);
+        return out.toByteArray();
+    }
+
+    private static Employee employee(String id, String name, Integer salary) {
+        final var employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        employee.setEmployee_age(30);
+        employee.setEmployee_title("Engineer");
+        employee.setEmployee_email("john@company.com");
+        return employee;
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter();
+
+    @Test
+    void doFilter_AddsHeaderToResponseWithoutBody() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> ((HttpServletResponse) res)
+                .setStatus(HttpStatus.NOT_MODIFIED.value()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        assertNotNull(response.getHeader(ServerTiming.HEADER));
+    }
+
+    @Test
+    void doFilter_AddsHeaderBeforeBodyIsWritten() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var headerBeforeBody = new String[1];
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            final var out = res.getOutputStream();
+            headerBeforeBody[0] = ((HttpServletResponse) res).getHeader(ServerTiming.HEADER);
+            out.write('x');
+            res.flushBuffer();
+        });
+
+        assertNotNull(headerBeforeBody[0]);
+        assertEquals(1, response.getHeaders(ServerTiming.HEADER).size());
+    }
+
+    @Test
+    void doFilter_AddsHeaderBeforeErrorIsSent() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> ((HttpServletResponse) res)
+                .sendError(HttpStatus.SERVICE_UNAVAILABLE.value()));
+
+        assertTrue(response.isCommitted());
+        assertNotNull(response.getHeader(ServerTiming.HEADER));
+        assertNull(ServerTiming.current());
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ServerTimingTest {
+
+    private final UpstreamMetrics metrics = new UpstreamMetrics(new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.clear();
+    }
+
+    @Test
+    void recordBackoff_ReportsWaitAsBackoffRatherThanApp() {
+        final var timing = ServerTiming.start();
+
+        metrics.recordBackoff("get", () -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50)));
+
+        final var phases = phases(timing.toHeaderValue());
+        assertTrue(phases.get("backoff") >= 50, "backoff " + phases.get("backoff"));
+        assertTrue(phases.get("total") - phases.get("app") >= 50, "app " + phases.get("app"));
+        assertEquals(0, phases.get("upstream").doubleValue());
+    }
+
+    @Test
+    void recordBackoff_RunsWaitOutsideTrackedRequest() {
+        final var waited = new boolean[1];
+
+        metrics.recordBackoff("get", () -> waited[0] = true);
+
+        assertTrue(waited[0]);
+        assertNull(ServerTiming.current());
+    }
+
+    @Test
+    void recordWait_ChargesAttemptPhasesAndTheRestAsUpstream() {
+        final var timing = ServerTiming.start();
+        final var attempt = ServerTiming.forAttempt();
+
+        ServerTiming.callAs(attempt, () -> {
+            ServerTiming.recordBackoff(TimeUnit.MILLISECONDS.toNanos(30));
+            ServerTiming.recordUpstream(TimeUnit.MILLISECONDS.toNanos(60));
+            ServerTiming.recordParse(TimeUnit.MILLISECONDS.toNanos(10));
+            return null;
+        });
+        ServerTiming.recordWait(TimeUnit.MILLISECONDS.toNanos(100), attempt);
+
+        final var phases = phases(timing.toHeaderValue());
+        assertSame(timing, ServerTiming.current());
+        assertEquals(30, phases.get("backoff").doubleValue());
+        assertEquals(10, phases.get("decode").doubleValue());
+        assertEquals(60, phases.get("upstream").doubleValue());
+    }
+
+    @Test
+    void forAttempt_NullOutsideTrackedRequest() {
+        assertNull(ServerTiming.forAttempt());
+    }
+
+    private static Map<String, Double> phases(String header) {
+        return Arrays.stream(header.split(", "))
+                .map(phase -> phase.split(";dur="))
+                .collect(Collectors.toMap(phase -> phase[0], phase -> Double.parseDouble(phase[1])));
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class UpstreamMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UpstreamMetrics metrics = new UpstreamMetrics(registry);
+
+    @Test
+    void record_ReusesOneTimerPerOperationAndOutcome() {
+        metrics.record("get", () -> "first");
+        metrics.record("get", () -> "second");
+        metrics.record("list", () -> "third");
+
+        final var timer = registry.get("employee.upstream.requests")
+                .tag("operation", "get")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+        assertEquals(2, registry.get("employee.upstream.requests").timers().size());
+    }
+
+    @Test
+    void record_CountsRateLimitedCallsUnderTheirOwnOutcome() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(
+                    HttpClientErrorException.class,
+                    () -> metrics.record("list", () -> {
+                        throw HttpClientErrorException.create(
+                                HttpStatus.TOO_MANY_REQUESTS,
+                                "Too Many Requests",
+                                HttpHeaders.EMPTY,
+                                new byte[0],
+                                StandardCharsets.UTF_8);
+                    }));
+        }
+
+        assertEquals(
+                2,
+                registry.get("employee.upstream.rate.limited")
+                        .tag("operation", "list")
+                        .counter()
+                        .count());
+        assertEquals(
+                2,
+                registry.get("employee.upstream.requests")
+                        .tag("outcome", "rate_limited")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void recordConvert_TimesEachStageSeparately() {
+        metrics.recordConvert("list", () -> "converted");
+        metrics.recordConvert("list", () -> "converted");
+        metrics.recordParse(1_000);
+
+        assertEquals(
+                2,
+                registry.get("employee.upstream.decode")
+                        .tag("stage", "convert")
+                        .timer()
+                        .count());
+        assertEquals(
+                1,
+                registry.get("employee.upstream.decode")
+                        .tag("operation", "unknown")
+                        .tag("stage", "parse")
+                        .timer()
+                        .count());
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.search.NameBkTree.NameMatch;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NameBkTreeTest {
+
+    private final NameBkTree tree = NameBkTree.build(List.of(
+            employee("1", "John Smith"),
+            employee("2", "Mary Jones"),
+            employee("3", "Jon Smyth"),
+            employee("4", "Johnny Cash"),
+            employee("5", "Anne-Marie O'Neil")));
+
+    @Test
+    void search_RanksMatchesByDistance() {
+        assertEquals(List.of("3:0", "1:1"), matches(tree.search("Smyth", 2, 10)));
+        assertEquals(List.of("3:1", "1:2"), matches(tree.search("jon smth", 2, 10)));
+        assertEquals(List.of("3:1", "1:2", "2:2"), matches(tree.search("jonh", 2, 10)));
+    }
+
+    @Test
+    void search_HonoursMaxDistanceAndLimit() {
+        assertEquals(List.of("3:1"), matches(tree.search("jonh", 1, 10)));
+        assertEquals(List.of("3:1", "1:2"), matches(tree.search("jonh", 2, 2)));
+        assertTrue(tree.search("zzzzzz", 2, 10).isEmpty());
+        assertTrue(tree.search(" ", 2, 10).isEmpty());
+        assertTrue(NameBkTree.empty().search("john", 2, 10).isEmpty());
+    }
+
+    @Test
+    void search_FindsEveryNameAWordByWordScanWould() {
+        final var random = new Random(42);
+        final var roster = new ArrayList<Employee>();
+        for (int i = 0; i < 2_000; i++) {
+            roster.add(employee(String.valueOf(i), word(random) + " " + word(random)));
+        }
+        final var large = NameBkTree.build(roster);
+
+        for (int i = 0; i < 50; i++) {
+            final var query = word(random);
+            final var expected = roster.stream()
+                    .map(employee -> new NameMatch(employee, closestWord(employee, query)))
+                    .filter(match -> match.distance() <= 2)
+                    .sorted(Comparator.comparingInt(NameMatch::distance)
+                            .thenComparing(match -> NameTrie.normalize(match.employee().getEmployee_name())))
+                    .toList();
+            assertEquals(matches(expected), matches(large.search(query, 2, Integer.MAX_VALUE)), query);
+        }
+    }
+
+    private static int closestWord(Employee employee, String query) {
+        var closest = Integer.MAX_VALUE;
+        for (String word : NameTrie.normalize(employee.getEmployee_name()).split(" ")) {
+            closest = Math.min(closest, NameBkTree.distance(query, word, Integer.MAX_VALUE));
+        }
+        return closest;
+    }
+
+    private static String word(Random random) {
+        final var word = new StringBuilder();
+        for (int i = 0, length = 3 + random.nextInt(3); i < length; i++) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+
+    private static List<String> matches(List<NameMatch> matches) {
+        return matches.stream()
+                .map(match -> match.employee().getId() + ":" + match.distance())
+                .toList();
+    }
+
+    private static Employee employee(String id, String name) {
+        final var employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
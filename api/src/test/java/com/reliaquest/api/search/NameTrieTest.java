@@ -0,0 +1,57 @@
+package com.reliaquest.api.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NameTrieTest {
+
+    private final NameTrie trie = NameTrie.build(List.of(
+            employee("1", "John Smith"),
+            employee("2", "Mary Jones"),
+            employee("3", "Jos\u00e9 \u00c1lvarez"),
+            employee("4", "Johnny Cash"),
+            employee("5", "Anne-Marie O'Neil")));
+
+    @Test
+    void complete_MatchesEveryWordStart() {
+        assertEquals(List.of("1", "4", "2", "3"), ids(trie.complete("jo", 10)));
+        assertEquals(List.of("1"), ids(trie.complete("smi", 10)));
+    }
+
+    @Test
+    void complete_IgnoresCaseAccentsAndPunctuation() {
+        assertEquals(List.of("3"), ids(trie.complete("JOSE AL", 10)));
+        assertEquals(List.of("3"), ids(trie.complete("alv", 10)));
+        assertEquals(List.of("5"), ids(trie.complete("anne marie o", 10)));
+        assertEquals(List.of("5"), ids(trie.complete("neil", 10)));
+    }
+
+    @Test
+    void complete_ReturnsEachEmployeeOnceUpToLimit() {
+        final var repeated = NameTrie.build(List.of(employee("1", "Jo Jones"), employee("2", "Jon Jordan")));
+
+        assertEquals(List.of("1", "2"), ids(repeated.complete("jo", 10)));
+        assertEquals(List.of("1"), ids(repeated.complete("jo", 1)));
+    }
+
+    @Test
+    void complete_ReturnsNothingForUnknownOrEmptyPrefix() {
+        assertTrue(trie.complete("zz", 10).isEmpty());
+        assertTrue(trie.complete("  ", 10).isEmpty());
+        assertTrue(NameTrie.empty().complete("jo", 10).isEmpty());
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    private static Employee employee(String id, String name) {
+        final var employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private final SalaryIndex index = SalaryIndex.build(List.of(
+            employee("1", 50_000),
+            employee("2", 90_000),
+            employee("3", 70_000),
+            employee("4", null),
+            employee("5", 70_000),
+            employee("6", 30_000)));
+
+    @Test
+    void range_ReturnsSalariesWithinBoundsLowestFirst() {
+        assertEquals(List.of("1", "3", "5"), ids(index.range(50_000, 70_000, 10)));
+        assertEquals(List.of("1", "3"), ids(index.range(40_000, 80_000, 2)));
+        assertTrue(index.range(71_000, 89_999, 10).isEmpty());
+        assertTrue(index.range(90_000, 30_000, 10).isEmpty());
+    }
+
+    @Test
+    void rank_SharesRankBetweenEqualSalaries() {
+        assertEquals(1, index.rank(90_000));
+        assertEquals(2, index.rank(70_000));
+        assertEquals(4, index.rank(50_000));
+        assertEquals(5, index.rank(30_000));
+        assertEquals(40.0, index.percentileOf(50_000), 1e-9);
+    }
+
+    @Test
+    void percentile_UsesNearestRank() {
+        assertEquals(5, index.size());
+        assertEquals(OptionalInt.of(30_000), index.percentile(1));
+        assertEquals(OptionalInt.of(70_000), index.percentile(50));
+        assertEquals(OptionalInt.of(90_000), index.percentile(90));
+        assertEquals(OptionalInt.of(90_000), index.percentile(100));
+        assertEquals(OptionalInt.empty(), SalaryIndex.empty().percentile(50));
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    private static Employee employee(String id, Integer salary) {
+        final var employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
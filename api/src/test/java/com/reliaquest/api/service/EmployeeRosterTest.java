@@ -0,0 +1,69 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeRosterTest {
+
+    private final EmployeeRoster roster = new EmployeeRoster();
+
+    @Test
+    void update_KeepsVersionForUnchangedRoster() {
+        roster.update(List.of(employee("1", "Ann Lee", 50_000), employee("2", "Bo Chan", 60_000)));
+        final var first = roster.snapshot();
+
+        roster.update(List.of(employee("1", "Ann Lee", 50_000), employee("2", "Bo Chan", 60_000)));
+
+        assertEquals(first.version(), roster.snapshot().version());
+        assertEquals(first.fingerprint(), roster.snapshot().fingerprint());
+        assertFalse(roster.snapshot().fetchedAt().isBefore(first.fetchedAt()));
+    }
+
+    @Test
+    void update_BumpsVersionWhenHashCodesCollide() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        roster.update(List.of(employee("1", "Aa Lee", 50_000)));
+        final var first = roster.snapshot();
+
+        roster.update(List.of(employee("1", "BB Lee", 50_000)));
+
+        assertNotEquals(first.version(), roster.snapshot().version());
+        assertNotEquals(first.fingerprint(), roster.snapshot().fingerprint());
+        assertEquals("BB Lee", roster.snapshot().byId().get("1").getEmployee_name());
+    }
+
+    @Test
+    void fingerprint_SeparatesFieldBoundariesAndNulls() {
+        assertNotEquals(
+                EmployeeRoster.fingerprint(List.of(employee("1", "ab", null))),
+                EmployeeRoster.fingerprint(List.of(employee("1a", "b", null))));
+        assertNotEquals(
+                EmployeeRoster.fingerprint(List.of(employee("1", null, 5))),
+                EmployeeRoster.fingerprint(List.of(employee("1", "5", null))));
+    }
+
+    @Test
+    void addAndRemove_BumpVersion() {
+        roster.update(List.of(employee("1", "Ann Lee", 50_000)));
+        final var updated = roster.snapshot().version();
+
+        roster.add(employee("2", "Bo Chan", 60_000));
+        final var added = roster.snapshot();
+        roster.remove("1");
+
+        assertTrue(added.version() > updated);
+        assertTrue(roster.snapshot().version() > added.version());
+        assertEquals(List.of("2"), roster.snapshot().byId().keySet().stream().toList());
+    }
+
+    private static Employee employee(String id, String name, Integer salary) {
+        final var employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
@@ -5,17 +5,30 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.UpstreamProperties;
+import com.reliaquest.api.metrics.UpstreamMetrics;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeRoster;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.UpstreamJson;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,14 +59,18 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
-        employeeService = new EmployeeService(objectMapper);
+        employeeService = withMockRestClient(new EmployeeService(objectMapper));
+    }
+
+    private EmployeeService withMockRestClient(EmployeeService service) {
         try {
             var restClientField = EmployeeService.class.getDeclaredField("restClient");
             restClientField.setAccessible(true);
-            restClientField.set(employeeService, restClient);
+            restClientField.set(service, restClient);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        return service;
     }
 
     @Test
@@ -278,4 +295,193 @@ class EmployeeServiceTest {
         assertTrue(result.stream().anyMatch(emp -> emp.getEmployee_name().equals("Nicky Rodriguez")));
         assertFalse(result.stream().anyMatch(emp -> emp.getEmployee_name().equals("Jane Smith")));
     }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_QueryPushdown() {
+        // Given
+        UpstreamProperties properties = new UpstreamProperties();
+        properties.setQueryPushdown(true);
+        EmployeeService pushdownService =
+                withMockRestClient(new EmployeeService(
+                        objectMapper,
+                        RestClient.builder(),
+                        properties,
+                        new UpstreamMetrics(new SimpleMeterRegistry())));
+
+        Map<String, Object> mockResponse = Map.of(
+                "data",
+                List.of(
+                        Map.of("employee_name", "Jane Smith", "employee_salary", 75000),
+                        Map.of("employee_name", "Nick LaManna", "employee_salary", 60000)));
+
+        Employee emp1 = new Employee();
+        emp1.setEmployee_name("Jane Smith");
+        emp1.setEmployee_salary(75000);
+        Employee emp2 = new Employee();
+        emp2.setEmployee_name("Nick LaManna");
+        emp2.setEmployee_salary(60000);
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(any(Function.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(mockResponse);
+        when(objectMapper.convertValue(any(Map.class), eq(Employee.class)))
+                .thenReturn(emp1)
+                .thenReturn(emp2);
+
+        // When
+        List<String> result = pushdownService.getTopTenHighestEarningEmployeeNames();
+
+        // Then
+        assertEquals(List.of("Jane Smith", "Nick LaManna"), result);
+        verify(requestHeadersUriSpec, never()).uri("/employee");
+    }
+
+    @Test
+    void getEmployeeById_HedgesSlowUpstream() {
+        // Given
+        UpstreamProperties properties = new UpstreamProperties();
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setInitialDelay(Duration.ofMillis(20));
+        EmployeeService hedgingService = withMockRestClient(new EmployeeService(
+                objectMapper, RestClient.builder(), properties, new UpstreamMetrics(new SimpleMeterRegistry())));
+
+        String employeeId = "123";
+        Map<String, Object> mockResponse = Map.of("data", Map.of("id", employeeId, "employee_name", "Nick LaManna"));
+        Employee mockEmployee = new Employee();
+        mockEmployee.setId(employeeId);
+
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch primaryHeld = new CountDownLatch(1);
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri("/employee/{id}", employeeId)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                primaryHeld.await();
+            }
+            return mockResponse;
+        });
+        when(objectMapper.convertValue(any(Map.class), eq(Employee.class))).thenReturn(mockEmployee);
+
+        // When
+        Employee result = hedgingService.getEmployeeById(employeeId);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(employeeId, result.getId());
+        assertEquals(2, attempts.get());
+        assertEquals(1, primaryHeld.getCount());
+        primaryHeld.countDown();
+    }
+
+    @Test
+    void getAllEmployees_ServesLastGoodRosterWhenUpstreamFails() {
+        // Given
+        UpstreamProperties properties = new UpstreamProperties();
+        properties.getCircuitBreaker().setEnabled(true);
+        EmployeeService breakerService = withMockRestClient(new EmployeeService(
+                objectMapper, RestClient.builder(), properties, new UpstreamMetrics(new SimpleMeterRegistry())));
+
+        Map<String, Object> mockResponse =
+                Map.of("data", List.of(Map.of("id", "1", "employee_name", "Nick LaManna", "employee_salary", 50000)));
+        Employee employee = new Employee();
+        employee.setId("1");
+        employee.setEmployee_name("Nick LaManna");
+        employee.setEmployee_salary(50000);
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri("/employee")).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenReturn(mockResponse)
+                .thenThrow(new ResourceAccessException("Connection refused"));
+        when(objectMapper.convertValue(any(Map.class), eq(Employee.class))).thenReturn(employee);
+
+        // When
+        breakerService.getAllEmployees();
+        List<Employee> result = breakerService.getAllEmployees();
+        Integer highestSalary = breakerService.getHighestSalaryOfEmployees();
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("Nick LaManna", result.get(0).getEmployee_name());
+        assertEquals(50000, highestSalary);
+    }
+
+    @Test
+    void getAllEmployeesJson_FillsMissingRosterWithoutAnotherRead() {
+        // Given
+        EmployeeService passthroughService = withMockRestClient(new EmployeeService(
+                new ObjectMapper(),
+                RestClient.builder(),
+                new UpstreamProperties(),
+                new UpstreamMetrics(new SimpleMeterRegistry())));
+
+        String data = "[{\"id\":\"1\",\"employee_name\":\"Nick LaManna\",\"employee_salary\":50000}]";
+        byte[] body = ("{\"data\":" + data + ",\"status\":\"Successfully processed request.\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri("/employee")).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.accept(MediaType.APPLICATION_JSON)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(byte[].class)).thenReturn(body);
+
+        // When
+        UpstreamJson result = passthroughService.getAllEmployeesJson();
+        EmployeeRoster.Snapshot roster = passthroughService.rosterSnapshot();
+        passthroughService.getAllEmployeesJson();
+
+        // Then
+        assertEquals(data, result.toString());
+        assertEquals("Nick LaManna", roster.employees().get(0).getEmployee_name());
+        assertSame(roster, passthroughService.rosterSnapshot());
+        verify(responseSpec, times(2)).body(byte[].class);
+    }
+
+    @Test
+    void rosterSnapshot_ServesStaleRosterWhileRefreshingInBackground() throws Exception {
+        // Given
+        UpstreamProperties properties = new UpstreamProperties();
+        properties.setRosterMaxAge(Duration.ZERO);
+        properties.setRosterRefreshBackoff(Duration.ofMinutes(1));
+        EmployeeService rosterService = withMockRestClient(new EmployeeService(
+                objectMapper, RestClient.builder(), properties, new UpstreamMetrics(new SimpleMeterRegistry())));
+
+        Map<String, Object> mockResponse = Map.of("data", List.of(Map.of("id", "1", "employee_name", "Nick LaManna")));
+        Employee employee = new Employee();
+        employee.setId("1");
+
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch upstreamRecovered = new CountDownLatch(1);
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri("/employee")).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenReturn(mockResponse)
+                .thenAnswer(invocation -> {
+                    refreshStarted.countDown();
+                    upstreamRecovered.await();
+                    throw new ResourceAccessException("Connection refused");
+                });
+        when(objectMapper.convertValue(any(Map.class), eq(Employee.class))).thenReturn(employee);
+
+        // When
+        EmployeeRoster.Snapshot first = rosterService.rosterSnapshot();
+        EmployeeRoster.Snapshot stale = rosterService.rosterSnapshot();
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+        EmployeeRoster.Snapshot duringRefresh = rosterService.rosterSnapshot();
+        upstreamRecovered.countDown();
+
+        // Then
+        assertNotNull(first);
+        assertSame(first, stale);
+        assertSame(first, duringRefresh);
+        for (int i = 0; i < 100; i++) {
+            assertSame(first, rosterService.rosterSnapshot());
+            Thread.sleep(1);
+        }
+        verify(responseSpec, times(2)).body(any(ParameterizedTypeReference.class));
+    }
 }
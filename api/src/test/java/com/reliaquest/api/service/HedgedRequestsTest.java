@@ -0,0 +1,133 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.UpstreamProperties;
+import com.reliaquest.api.config.UpstreamProperties.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+class HedgedRequestsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HedgedRequests hedgedRequests = hedgedRequests(Duration.ofMillis(10));
+
+    @AfterEach
+    void tearDown() {
+        hedgedRequests.shutdown();
+    }
+
+    @Test
+    void call_ReturnsBackupWhilePrimaryIsHeld() throws Exception {
+        final var primaryHeld = new CountDownLatch(1);
+        final var primaryStopped = new CountDownLatch(1);
+
+        final var result = hedgedRequests.call(
+                () -> {
+                    try {
+                        primaryHeld.await();
+                        return "primary";
+                    } catch (InterruptedException e) {
+                        primaryStopped.countDown();
+                        throw new IllegalStateException(e);
+                    }
+                },
+                () -> "backup");
+
+        assertEquals("backup", result);
+        assertTrue(primaryStopped.await(5, TimeUnit.SECONDS), "primary was not cancelled");
+        assertEquals(1.0, hedges("won"));
+    }
+
+    @Test
+    void call_RunsAttemptsUnderCallersPriority() {
+        final var assigned = UpstreamScheduler.callAs(
+                Priority.BACKGROUND,
+                () -> hedgedRequests.call(UpstreamScheduler::assignedPriority, UpstreamScheduler::assignedPriority));
+        final var unassigned =
+                hedgedRequests.call(UpstreamScheduler::assignedPriority, UpstreamScheduler::assignedPriority);
+
+        assertEquals(Priority.BACKGROUND, assigned);
+        assertNull(unassigned);
+    }
+
+    @Test
+    void call_AnswersFromBackupWhenPrimaryFails() {
+        final var held = new CountDownLatch(1);
+
+        final var result = hedgedRequests.call(
+                () -> {
+                    try {
+                        held.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalStateException("primary failed");
+                },
+                () -> {
+                    held.countDown();
+                    return "backup";
+                });
+
+        assertEquals("backup", result);
+    }
+
+    @Test
+    void call_SkipsHedgeWhileCircuitIsOpen() {
+        final var properties = properties(Duration.ofMillis(10));
+        properties.getCircuitBreaker().setEnabled(true);
+        properties.getCircuitBreaker().setFailureThreshold(1);
+        final var circuitBreaker = new UpstreamCircuitBreaker(properties, meterRegistry);
+        circuitBreaker.onResult(new ResourceAccessException("Connection refused"));
+        final var openHedgedRequests =
+                new HedgedRequests(properties, new UpstreamRequestBudget(properties), circuitBreaker, meterRegistry);
+
+        try {
+            final var result = openHedgedRequests.call(
+                    () -> {
+                        try {
+                            Thread.sleep(100);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return "primary";
+                    },
+                    () -> "backup");
+
+            assertEquals("primary", result);
+            assertEquals(1.0, hedges("skipped_circuit"));
+            assertEquals(0.0, hedges("sent"));
+        } finally {
+            openHedgedRequests.shutdown();
+        }
+    }
+
+    private HedgedRequests hedgedRequests(Duration initialDelay) {
+        final var properties = properties(initialDelay);
+        return new HedgedRequests(
+                properties,
+                new UpstreamRequestBudget(properties),
+                new UpstreamCircuitBreaker(properties, meterRegistry),
+                meterRegistry);
+    }
+
+    private static UpstreamProperties properties(Duration initialDelay) {
+        final var properties = new UpstreamProperties();
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setInitialDelay(initialDelay);
+        return properties;
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry
+                .get("employee.upstream.hedges")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.ExportProperties;
+import com.reliaquest.api.export.ExportFormat;
+import com.reliaquest.api.model.Employee;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterExportServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+
+    @Test
+    void export_KeepsSpillsThatAreStillBeingServed() throws Exception {
+        final var exportService = exportService();
+        when(employeeService.rosterSnapshot()).thenReturn(snapshot(1));
+        final var served = exportService.export(ExportFormat.CSV);
+        expire(served.file());
+
+        when(employeeService.rosterSnapshot()).thenReturn(snapshot(2));
+        exportService.release(exportService.export(ExportFormat.CSV));
+
+        assertTrue(Files.exists(served.file()), "spill removed while being served");
+
+        exportService.release(served);
+        expire(served.file());
+        when(employeeService.rosterSnapshot()).thenReturn(snapshot(3));
+        exportService.release(exportService.export(ExportFormat.CSV));
+
+        assertFalse(Files.exists(served.file()), "released spill kept past its retention");
+    }
+
+    @Test
+    void release_RestartsTheRetention() throws Exception {
+        final var exportService = exportService();
+        when(employeeService.rosterSnapshot()).thenReturn(snapshot(1));
+        final var served = exportService.export(ExportFormat.CSV);
+        expire(served.file());
+        exportService.release(served);
+
+        when(employeeService.rosterSnapshot()).thenReturn(snapshot(2));
+        exportService.release(exportService.export(ExportFormat.CSV));
+
+        assertTrue(Files.exists(served.file()), "spill removed right after it was served");
+    }
+
+    private RosterExportService exportService() throws Exception {
+        final var properties = new ExportProperties();
+        properties.setDirectory(directory);
+        properties.setSpillThreshold(1);
+        final var exportService = new RosterExportService(employeeService, properties);
+        exportService.clearSpills();
+        return exportService;
+    }
+
+    private static void expire(Path file) throws Exception {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+    }
+
+    private static EmployeeRoster.Snapshot snapshot(long version) {
+        final var employee = new Employee();
+        employee.setId("1");
+        employee.setEmployee_name("John Smith");
+        employee.setEmployee_salary(50_000);
+        return new EmployeeRoster.Snapshot(
+                version, "v" + version, List.of(employee), Map.of("1", employee), Instant.now());
+    }
+}
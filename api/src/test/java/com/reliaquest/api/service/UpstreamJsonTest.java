@@ -0,0 +1,44 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class UpstreamJsonTest {
+
+    @Test
+    void dataOf_ReturnsTheDataArrayBytesUntouched() throws IOException {
+        final var data = "[{\"id\":\"1\",\"employee_name\":\"Ren\\u00e9e \\\"]}\\\" \u00d8st\"},{\"id\":\"2\"}]";
+
+        final var json = dataOf("{\"data\":" + data + ",\"status\":\"Successfully processed request.\"}");
+
+        assertEquals(data, json.toString());
+        assertEquals(data.getBytes(StandardCharsets.UTF_8).length, json.length());
+        final var out = new ByteArrayOutputStream();
+        json.writeTo(out);
+        assertEquals(data, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void dataOf_SkipsOtherFieldsIncludingNestedDataKeys() throws IOException {
+        final var json = dataOf("{\"status\":{\"data\":[1,2]}, \"data\" : { \"id\" : \"1\" } }");
+
+        assertEquals("{ \"id\" : \"1\" }", json.toString());
+    }
+
+    @Test
+    void dataOf_IsNullWithoutAnObjectOrArray() throws IOException {
+        assertNull(dataOf("{\"status\":\"Successfully processed request.\"}"));
+        assertNull(dataOf("{\"data\":null,\"status\":\"Successfully processed request.\"}"));
+        assertNull(dataOf("{\"data\":true}"));
+        assertNull(dataOf("[{\"data\":[]}]"));
+        assertEquals("[]", dataOf("{\"data\":[]}").toString());
+    }
+
+    private static UpstreamJson dataOf(String body) throws IOException {
+        return UpstreamJson.dataOf(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
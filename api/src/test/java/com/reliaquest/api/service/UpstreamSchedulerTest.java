@@ -0,0 +1,176 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.UpstreamProperties;
+import com.reliaquest.api.config.UpstreamProperties.Priority;
+import com.reliaquest.api.config.UpstreamProperties.PriorityClass;
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class UpstreamSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void acquire_AdmitsHigherPriorityFirst() throws Exception {
+        final var scheduler = scheduler(1, Duration.ofMillis(500), Duration.ofSeconds(5), 1.0, 0.4);
+        scheduler.acquire("list");
+
+        final var admitted = new CopyOnWriteArrayList<Priority>();
+        final var bulk = waiter(scheduler, Priority.BULK, admitted);
+        bulk.start();
+        awaitQueued(1);
+        final var interactive = waiter(scheduler, Priority.INTERACTIVE, admitted);
+        interactive.start();
+        awaitQueued(2);
+
+        interactive.join(TimeUnit.SECONDS.toMillis(5));
+        bulk.join(TimeUnit.SECONDS.toMillis(5));
+        assertEquals(List.of(Priority.INTERACTIVE, Priority.BULK), admitted);
+    }
+
+    @Test
+    void acquire_HoldsAClassToItsQuotaWhileTheBudgetHasRoom() {
+        final var scheduler = scheduler(10, Duration.ofMinutes(1), Duration.ofMillis(100), 1.0, 0.2);
+
+        UpstreamScheduler.callAs(Priority.BULK, () -> {
+            scheduler.acquire("list");
+            scheduler.acquire("list");
+            return null;
+        });
+
+        assertThrows(
+                UpstreamUnavailableException.class,
+                () -> UpstreamScheduler.callAs(Priority.BULK, () -> {
+                    scheduler.acquire("list");
+                    return null;
+                }));
+        scheduler.acquire("list");
+        assertEquals(1, dropped("bulk"));
+    }
+
+    @Test
+    void acquire_GivesASmallQuotaAtLeastOneRequest() {
+        final var scheduler = scheduler(2, Duration.ofMinutes(1), Duration.ofMillis(100), 1.0, 0.1);
+
+        UpstreamScheduler.callAs(Priority.BULK, () -> {
+            scheduler.acquire("list");
+            return null;
+        });
+
+        assertThrows(
+                UpstreamUnavailableException.class,
+                () -> UpstreamScheduler.callAs(Priority.BULK, () -> {
+                    scheduler.acquire("list");
+                    return null;
+                }));
+    }
+
+    @Test
+    void acquire_DropsCallerQueuedPastItsDeadline() {
+        final var scheduler = scheduler(1, Duration.ofMinutes(1), Duration.ofMillis(100), 1.0, 1.0);
+        scheduler.acquire("list");
+
+        final var start = System.nanoTime();
+        assertThrows(UpstreamUnavailableException.class, () -> scheduler.acquire("list"));
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(1, dropped("interactive"));
+        assertEquals(0, meterRegistry.get("employee.upstream.scheduler.queued").gauge().value());
+    }
+
+    @Test
+    void acquire_DropsPriorityWithoutConfiguredClassAtOnce() {
+        final var scheduler = scheduler(10, Duration.ofMinutes(1), Duration.ofSeconds(30), 1.0, 1.0, Priority.BULK);
+
+        assertThrows(
+                UpstreamUnavailableException.class,
+                () -> UpstreamScheduler.callAs(Priority.BULK, () -> {
+                    scheduler.acquire("list");
+                    return null;
+                }));
+        assertEquals(1, dropped("bulk"));
+        scheduler.acquire("list");
+    }
+
+    @Test
+    void acquire_GivesUpWithoutDroppingWhenInterrupted() throws Exception {
+        final var scheduler = scheduler(1, Duration.ofMinutes(1), Duration.ofSeconds(30), 1.0, 1.0);
+        scheduler.acquire("list");
+
+        final var failure = new AtomicReference<Throwable>();
+        final var waiter = new Thread(() -> {
+            try {
+                scheduler.acquire("list");
+            } catch (RuntimeException e) {
+                failure.set(e);
+            }
+        });
+        waiter.start();
+        awaitQueued(1);
+        waiter.interrupt();
+        waiter.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertInstanceOf(UpstreamUnavailableException.class, failure.get());
+        assertEquals(0, dropped("interactive"));
+        assertEquals(0, meterRegistry.get("employee.upstream.scheduler.queued").gauge().value());
+    }
+
+    /*
+     * Every class gets the same deadline; interactive and bulk get the given quotas, the others none. Classes for the
+     * unconfigured priorities are left out.
+     */
+    private UpstreamScheduler scheduler(
+            int requests,
+            Duration window,
+            Duration deadline,
+            double interactiveQuota,
+            double bulkQuota,
+            Priority... unconfigured) {
+        final var properties = new UpstreamProperties();
+        properties.getBudget().setRequests(requests);
+        properties.getBudget().setWindow(window);
+        properties.getScheduler().setEnabled(true);
+        final var classes = properties.getScheduler().getClasses();
+        classes.put(Priority.INTERACTIVE, new PriorityClass(interactiveQuota, deadline));
+        classes.put(Priority.WRITE, new PriorityClass(0, deadline));
+        classes.put(Priority.BACKGROUND, new PriorityClass(0, deadline));
+        classes.put(Priority.BULK, new PriorityClass(bulkQuota, deadline));
+        for (Priority priority : unconfigured) {
+            classes.remove(priority);
+        }
+        return new UpstreamScheduler(
+                properties, new UpstreamRequestBudget(properties), new UpstreamMetrics(meterRegistry), meterRegistry);
+    }
+
+    private double dropped(String priority) {
+        return meterRegistry
+                .get("employee.upstream.scheduler.dropped")
+                .tag("priority", priority)
+                .counter()
+                .count();
+    }
+
+    private static Thread waiter(UpstreamScheduler scheduler, Priority priority, List<Priority> admitted) {
+        return new Thread(() -> UpstreamScheduler.callAs(priority, () -> {
+            scheduler.acquire("list");
+            return admitted.add(priority);
+        }));
+    }
+
+    private void awaitQueued(int queued) throws InterruptedException {
+        final var gauge = meterRegistry.get("employee.upstream.scheduler.queued").gauge();
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge.value() < queued && System.nanoTime() - deadline < 0) {
+            Thread.sleep(1);
+        }
+        assertEquals(queued, gauge.value());
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+class UpstreamShardsTest {
+
+    private static final List<String> BASE_URLS =
+            List.of("http://shard-0/api/v1", "http://shard-1/api/v1", "http://shard-2/api/v1");
+
+    private final UpstreamShards shards = new UpstreamShards(RestClient.builder(), BASE_URLS);
+
+    @AfterEach
+    void tearDown() {
+        shards.shutdown();
+    }
+
+    @Test
+    void shardOf_SplitsLeadingBitsIntoEqualRanges() {
+        assertEquals(0, UpstreamShards.shardOf("00000000-0000-4000-8000-000000000000", 3));
+        assertEquals(0, UpstreamShards.shardOf("55555555-ffff-4fff-bfff-ffffffffffff", 3));
+        assertEquals(1, UpstreamShards.shardOf("55555556-0000-4000-8000-000000000000", 3));
+        assertEquals(1, UpstreamShards.shardOf("aaaaaaaa-ffff-4fff-bfff-ffffffffffff", 3));
+        assertEquals(2, UpstreamShards.shardOf("aaaaaaab-0000-4000-8000-000000000000", 3));
+        assertEquals(2, UpstreamShards.shardOf("ffffffff-ffff-4fff-bfff-ffffffffffff", 3));
+        assertEquals(0, UpstreamShards.shardOf(UUID.randomUUID().toString(), 1));
+    }
+
+    @Test
+    void shardOf_StaysInRangeForIdsThatAreNotUuids() {
+        for (String id : List.of("1", "employee-0", "", "not-a-uuid")) {
+            final var shard = UpstreamShards.shardOf(id, 3);
+            assertTrue(shard >= 0 && shard < 3, id);
+        }
+    }
+
+    @Test
+    void scatter_ReturnsResultsInShardOrder() {
+        final var owners = shards.scatter(client -> client == shards.owner("00000000-0000-4000-8000-000000000000")
+                ? "first"
+                : client == shards.owner("ffffffff-ffff-4fff-bfff-ffffffffffff") ? "last" : "middle");
+
+        assertEquals(List.of("first", "middle", "last"), owners);
+    }
+
+    @Test
+    void scatter_RethrowsTheFirstFailure() {
+        final var failing = shards.owner("55555556-0000-4000-8000-000000000000");
+
+        final var thrown = assertThrows(HttpServerErrorException.class, () -> shards.scatter(client -> {
+            if (client == failing) {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }
+            return "ok";
+        }));
+        assertEquals(HttpStatus.BAD_GATEWAY, thrown.getStatusCode());
+    }
+
+    @Test
+    void nextForCreate_RotatesOverShards() {
+        final var first = shards.nextForCreate();
+        final var second = shards.nextForCreate();
+        final var third = shards.nextForCreate();
+
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+        assertNotSame(first, third);
+        assertSame(first, shards.nextForCreate());
+    }
+
+    @Test
+    void merge_TakesTheOverallTopFromSortedLists() {
+        final var merged = UpstreamShards.merge(
+                List.<List<Integer>>of(List.of(90, 40, 10), List.of(), List.of(80, 70, 60, 5), List.of(95)),
+                Comparator.<Integer>reverseOrder(),
+                5);
+        final var all = UpstreamShards.merge(
+                List.<List<Integer>>of(List.of(3), List.of(2, 1)), Comparator.<Integer>reverseOrder(), 10);
+
+        assertEquals(List.of(95, 90, 80, 70, 60), merged);
+        assertEquals(List.of(3, 2, 1), all);
+        assertTrue(UpstreamShards.merge(List.<List<Integer>>of(), Comparator.<Integer>naturalOrder(), 10)
+                .isEmpty());
+    }
+}
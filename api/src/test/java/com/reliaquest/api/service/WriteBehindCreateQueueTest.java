@@ -0,0 +1,222 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.UpstreamProperties;
+import com.reliaquest.api.config.WriteBehindProperties;
+import com.reliaquest.api.model.CreateTicket;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class WriteBehindCreateQueueTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final WriteBehindProperties properties = new WriteBehindProperties();
+    private final List<WriteBehindCreateQueue> started = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (WriteBehindCreateQueue queue : started) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void submit_RetriesFailuresTheUpstreamNeverProcessed() throws Exception {
+        final var employeeService = mock(EmployeeService.class);
+        when(employeeService.create(any()))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, null, null))
+                .thenThrow(new ResourceAccessException("I/O error", new ConnectException("Connection refused")))
+                .thenThrow(new UpstreamUnavailableException("Upstream circuit is open"))
+                .thenReturn(employee("John Doe"));
+        final var queue = start(employeeService);
+
+        final var ticket = awaitCompletion(queue, queue.submit(input("John Doe")).ticket());
+
+        assertEquals(CreateTicket.Status.CREATED, ticket.status());
+        assertEquals("John Doe", ticket.employee().getEmployee_name());
+        verify(employeeService, times(4)).create(any());
+    }
+
+    @Test
+    void submit_FailsWithoutRetryWhenTheEmployeeMayExist() throws Exception {
+        final var employeeService = mock(EmployeeService.class);
+        when(employeeService.create(any())).thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+        final var queue = start(employeeService);
+
+        final var ticket = awaitCompletion(queue, queue.submit(input("John Doe")).ticket());
+
+        assertEquals(CreateTicket.Status.FAILED, ticket.status());
+        assertTrue(ticket.error().contains("502"), ticket.error());
+        verify(employeeService, times(1)).create(any());
+    }
+
+    @Test
+    void submit_KeepsDrainingWhenAnOutcomeCannotBeJournaled() throws Exception {
+        final var journalClosed = new CountDownLatch(1);
+        final var employeeService = mock(EmployeeService.class);
+        when(employeeService.create(any())).thenAnswer(invocation -> {
+            journalClosed.await();
+            return employee("John Doe");
+        });
+        final var queue = start(employeeService);
+        final var first = queue.submit(input("John Doe"));
+        final var second = queue.submit(input("Jane Smith"));
+        final var journal = WriteBehindCreateQueue.class.getDeclaredField("journal");
+        journal.setAccessible(true);
+        ((FileChannel) journal.get(queue)).close();
+        journalClosed.countDown();
+
+        assertEquals(CreateTicket.Status.CREATED, awaitCompletion(queue, first.ticket()).status());
+        assertEquals(CreateTicket.Status.CREATED, awaitCompletion(queue, second.ticket()).status());
+    }
+
+    @Test
+    void start_ReplaysPendingTicketsAfterRestart() throws Exception {
+        final var unavailable = mock(EmployeeService.class);
+        when(unavailable.create(any())).thenThrow(new UpstreamUnavailableException("Upstream down"));
+        final var before = start(unavailable);
+        final var submitted = before.submit(input("John Doe"));
+        before.stop();
+
+        final var available = mock(EmployeeService.class);
+        when(available.create(any())).thenReturn(employee("John Doe"));
+        final var after = start(available);
+
+        final var ticket = awaitCompletion(after, submitted.ticket());
+        assertEquals(CreateTicket.Status.CREATED, ticket.status());
+        assertEquals(submitted.submittedAt(), ticket.submittedAt());
+        verify(available).create(argThat(input -> "John Doe".equals(input.getName())));
+    }
+
+    @Test
+    void start_CompactsJournalToOneLinePerTicket() throws Exception {
+        final var employeeService = mock(EmployeeService.class);
+        when(employeeService.create(any())).thenReturn(employee("John Doe"), employee("Jane Smith"));
+        final var before = start(employeeService);
+        final var first = awaitCompletion(before, before.submit(input("John Doe")).ticket());
+        final var second = awaitCompletion(before, before.submit(input("Jane Smith")).ticket());
+        before.stop();
+        final var journal = directory.resolve("tickets.ndjson");
+        assertEquals(4, Files.readAllLines(journal).size());
+        Files.writeString(journal, "{\"ticket\":{\"ticket\":\"torn", StandardOpenOption.APPEND);
+
+        final var after = start(mock(EmployeeService.class));
+
+        final var lines = Files.readAllLines(journal);
+        assertEquals(2, lines.size());
+        for (String line : lines) {
+            final var entry = objectMapper.readValue(line, WriteBehindCreateQueue.JournalEntry.class);
+            assertNull(entry.input());
+            assertEquals(CreateTicket.Status.CREATED, entry.ticket().status());
+        }
+        for (CreateTicket completed : List.of(first, second)) {
+            final var replayed = after.find(completed.ticket()).orElseThrow();
+            assertEquals(CreateTicket.Status.CREATED, replayed.status());
+            assertEquals(completed.employee().getEmployee_name(), replayed.employee().getEmployee_name());
+            assertEquals(completed.completedAt(), replayed.completedAt());
+        }
+    }
+
+    @Test
+    void complete_CompactsJournalWhileRunning() throws Exception {
+        properties.setCompactEvery(2);
+        final var employeeService = mock(EmployeeService.class);
+        when(employeeService.create(any())).thenAnswer(invocation -> employee("John Doe"));
+        final var queue = start(employeeService);
+
+        for (int i = 0; i < 3; i++) {
+            awaitCompletion(queue, queue.submit(input("John Doe")).ticket());
+        }
+        queue.stop();
+
+        assertEquals(4, Files.readAllLines(directory.resolve("tickets.ndjson")).size());
+    }
+
+    @Test
+    void start_DropsTicketsCompletedBeforeTheRetention() throws Exception {
+        final var employeeService = mock(EmployeeService.class);
+        when(employeeService.create(any())).thenReturn(employee("John Doe"));
+        final var before = start(employeeService);
+        final var completed = awaitCompletion(before, before.submit(input("John Doe")).ticket());
+        before.stop();
+
+        properties.setCompletedRetention(Duration.ZERO);
+        final var after = start(mock(EmployeeService.class));
+
+        assertTrue(after.find(completed.ticket()).isEmpty());
+        assertEquals(List.of(), Files.readAllLines(directory.resolve("tickets.ndjson")));
+    }
+
+    private WriteBehindCreateQueue start(EmployeeService employeeService) throws IOException {
+        properties.setEnabled(true);
+        properties.setDirectory(directory);
+        properties.setRetryDelay(Duration.ofMillis(1));
+        final var queue = new WriteBehindCreateQueue(
+                employeeService,
+                new UpstreamRequestBudget(new UpstreamProperties()),
+                objectMapper,
+                properties,
+                new SimpleMeterRegistry());
+        queue.start();
+        started.add(queue);
+        return queue;
+    }
+
+    /*
+     * Polls until the drainer has completed the ticket, giving up after five seconds.
+     */
+    private static CreateTicket awaitCompletion(WriteBehindCreateQueue queue, String ticketId)
+            throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        var ticket = queue.find(ticketId).orElseThrow();
+        while (ticket.status() == CreateTicket.Status.PENDING && System.nanoTime() - deadline < 0) {
+            Thread.sleep(1);
+            ticket = queue.find(ticketId).orElseThrow();
+        }
+        return ticket;
+    }
+
+    private static EmployeeInput input(String name) {
+        final var input = new EmployeeInput();
+        input.setName(name);
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static Employee employee(String name) {
+        final var employee = new Employee();
+        employee.setId(name.toLowerCase().replace(' ', '-'));
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
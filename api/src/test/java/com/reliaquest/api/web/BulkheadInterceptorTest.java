@@ -0,0 +1,108 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.BulkheadProperties;
+import com.reliaquest.api.config.BulkheadProperties.EndpointClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class BulkheadInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void preHandle_RejectsWithRetryAfterWhenQueueIsFull() throws Exception {
+        final var interceptor = interceptor(new BulkheadProperties.Pool(1, 0, Duration.ofSeconds(10)));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), roster()));
+
+        final var response = new MockHttpServletResponse();
+        final var start = System.nanoTime();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), response, roster()));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, rejected());
+    }
+
+    @Test
+    void preHandle_RejectsQueuedRequestAfterMaxWait() throws Exception {
+        final var interceptor = interceptor(new BulkheadProperties.Pool(1, 1, Duration.ofMillis(50)));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), roster()));
+
+        final var response = new MockHttpServletResponse();
+        final var start = System.nanoTime();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), response, roster()));
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(503, response.getStatus());
+        assertEquals(1, rejected());
+        assertEquals(0, gauge("employee.bulkhead.queued"));
+    }
+
+    @Test
+    void afterCompletion_ReleasesThePermitOnce() throws Exception {
+        final var interceptor = interceptor(new BulkheadProperties.Pool(1, 0, Duration.ZERO));
+        final var first = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), roster()));
+        assertEquals(1, gauge("employee.bulkhead.active"));
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), roster(), null);
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), roster(), null);
+
+        assertEquals(0, gauge("employee.bulkhead.active"));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), roster()));
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), roster()));
+    }
+
+    @Test
+    void preHandle_LeavesHandlersWithoutBulkheadAlone() throws Exception {
+        final var interceptor = interceptor(new BulkheadProperties.Pool(1, 0, Duration.ZERO));
+        final var request = new MockHttpServletRequest();
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), unbounded()));
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), unbounded()));
+        assertEquals(0, gauge("employee.bulkhead.active"));
+    }
+
+    private BulkheadInterceptor interceptor(BulkheadProperties.Pool roster) {
+        final var properties = new BulkheadProperties();
+        properties.getPools().put(EndpointClass.ROSTER, roster);
+        return new BulkheadInterceptor(properties, meterRegistry);
+    }
+
+    private double rejected() {
+        return meterRegistry
+                .get("employee.bulkhead.rejected")
+                .tag("class", "roster")
+                .counter()
+                .count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("class", "roster").gauge().value();
+    }
+
+    private static HandlerMethod roster() throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod("roster"));
+    }
+
+    private static HandlerMethod unbounded() throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod("unbounded"));
+    }
+
+    static class Handlers {
+
+        @Bulkhead(EndpointClass.ROSTER)
+        public void roster() {}
+
+        public void unbounded() {}
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.UpstreamProperties;
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.client.RestClient;
+
+/**
+ * {@link EmployeeService}'s roster-wide paths against an in-memory upstream: parsing the envelope and converting it to
+ * {@link Employee}s, then the name search and top-ten sort on top of that.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        final var objectMapper = new ObjectMapper();
+        final var rosterBody = StubUpstream.rosterBody(objectMapper, rosterSize);
+        final var restClientBuilder = RestClient.builder().requestFactory(StubUpstream.requestFactory(rosterBody));
+        employeeService = new EmployeeService(
+                objectMapper,
+                restClientBuilder,
+                new UpstreamProperties(),
+                new UpstreamMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return employeeService.getEmployeesByNameSearch("employee 42");
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+}
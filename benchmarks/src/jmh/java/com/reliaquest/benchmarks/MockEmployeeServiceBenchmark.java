@@ -0,0 +1,82 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.UsernamePool;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link MockEmployeeService} lookups and deletes. Targets sit in the middle of the roster, so each operation scans
+ * about half of it; {@code deleteMissing} is the full-scan worst case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private List<MockEmployee> roster;
+    private MockEmployeeService mockEmployeeService;
+    private MockEmployee target;
+    private DeleteMockEmployeeInput deleteTarget;
+    private DeleteMockEmployeeInput deleteMissing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = StubUpstream.roster(rosterSize);
+        mockEmployeeService =
+                new MockEmployeeService(new UsernamePool(new Faker(Locale.getDefault()), roster, 16), roster);
+        target = roster.get(rosterSize / 2);
+        deleteTarget = new DeleteMockEmployeeInput();
+        deleteTarget.setName(target.getName());
+        deleteMissing = new DeleteMockEmployeeInput();
+        deleteMissing.setName("Nobody");
+    }
+
+    /*
+     * deleteExisting removes the target; put it back so every invocation sees the same roster. Kept in its own state
+     * so the per-invocation setup does not skew the other benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class RestoredTarget {
+
+        @Setup(Level.Invocation)
+        public void restore(MockEmployeeServiceBenchmark benchmark) {
+            final var index = benchmark.rosterSize / 2;
+            if (benchmark.roster.get(index) != benchmark.target) {
+                benchmark.roster.add(index, benchmark.target);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return mockEmployeeService.findById(target.getId());
+    }
+
+    @Benchmark
+    public boolean deleteExisting(RestoredTarget restoredTarget) {
+        return mockEmployeeService.delete(deleteTarget);
+    }
+
+    @Benchmark
+    public boolean deleteMissing() {
+        return mockEmployeeService.delete(deleteMissing);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of one roster fetch per wire format: the server encoding {@code Response<List<MockEmployee>>} and the api
+ * decoding it back into {@link Employee}s the way {@code EmployeeService} does. Payload sizes are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<Map<String, Object>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    @Param({"50", "1000", "100000"})
+    private int rosterSize;
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private String format;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private ObjectMapper wireMapper;
+    private Response<List<MockEmployee>> roster;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        wireMapper =
+                switch (format) {
+                    case "SMILE" -> new SmileMapper();
+                    case "CBOR" -> new CBORMapper();
+                    default -> jsonMapper;
+                };
+        roster = Response.handledWith(IntStream.range(0, rosterSize)
+                .mapToObj(StubUpstream::mockEmployee)
+                .toList());
+        payload = wireMapper.writeValueAsBytes(roster);
+        System.out.printf("%n%s roster of %d employees: %d bytes%n", format, rosterSize, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return wireMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Employee> decode() throws IOException {
+        final Map<String, Object> response = wireMapper.readValue(payload, RESPONSE_TYPE);
+        return ((List<Map<String, Object>>) response.get("data"))
+                .stream()
+                .map(data -> jsonMapper.convertValue(data, Employee.class))
+                .toList();
+    }
+}
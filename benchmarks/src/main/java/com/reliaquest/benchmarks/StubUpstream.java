@@ -0,0 +1,112 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+/**
+ * Deterministic rosters and stand-ins for the Mock Employee API that answer with pre-encoded bodies: an in-memory
+ * request factory, so JMH benchmarks measure the api's own work rather than the network, and a localhost HTTP server
+ * for benchmarks that run the api as a separate process.
+ */
+public final class StubUpstream {
+
+    private StubUpstream() {}
+
+    public static MockEmployee mockEmployee(int index) {
+        return MockEmployee.builder()
+                .id(UUID.nameUUIDFromBytes(Integer.toString(index).getBytes(StandardCharsets.UTF_8)))
+                .name("Employee " + index)
+                .salary(30_000 + (index * 7919) % 470_000)
+                .age(16 + index % 55)
+                .title("Software Engineer " + index % 40)
+                .email("employee" + index + "@company.com")
+                .build();
+    }
+
+    public static List<MockEmployee> roster(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(StubUpstream::mockEmployee)
+                .collect(Collectors.toList());
+    }
+
+    public static byte[] rosterBody(ObjectMapper objectMapper, int size) {
+        return body(objectMapper, roster(size));
+    }
+
+    public static ClientHttpRequestFactory requestFactory(byte[] body) {
+        return (uri, httpMethod) -> {
+            final var request = new MockClientHttpRequest(httpMethod, uri);
+            final var response = new MockClientHttpResponse(body, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.setResponse(response);
+            return request;
+        };
+    }
+
+    /*
+     * Serves /api/v1/employee on a free localhost port until stopped: lists answer with a roster of rosterSize, other
+     * reads and creates with its first employee, and deletes with true.
+     */
+    public static HttpServer start(ObjectMapper objectMapper, int rosterSize) throws IOException {
+        final var roster = roster(Math.max(1, rosterSize));
+        final var listBody = body(objectMapper, roster);
+        final var employeeBody = body(objectMapper, roster.get(0));
+        final var deleteBody = body(objectMapper, true);
+
+        final var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            final var path = exchange.getRequestURI().getPath();
+            final var body = switch (exchange.getRequestMethod()) {
+                case "GET" -> path.equals("/api/v1/employee") ? listBody : employeeBody;
+                case "POST" -> employeeBody;
+                case "DELETE" -> deleteBody;
+                default -> null;
+            };
+            respond(exchange, body);
+        });
+        server.start();
+        return server;
+    }
+
+    private static byte[] body(ObjectMapper objectMapper, Object data) {
+        try {
+            return objectMapper.writeValueAsBytes(Response.handledWith(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            if (body == null) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.benchmarks.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * The api routes the load test can drive, keyed by the names used in {@code loadtest.mix}.
+ */
+enum Endpoint {
+    ALL("all"),
+    SEARCH("search"),
+    BY_ID("byId"),
+    HIGHEST("highest"),
+    TOP_TEN("topTen"),
+    CREATE("create");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint in mix: " + key);
+    }
+
+    /*
+     * base is the api's ".../api/v1/" root; ids and names come from the roster fetched before the run, so lookups and searches hit real employees.
+     */
+    HttpRequest request(URI base, List<String> ids, List<String> names, RandomGenerator random) {
+        final var builder =
+                switch (this) {
+                    case ALL -> HttpRequest.newBuilder(base.resolve("employee")).GET();
+                    case SEARCH -> HttpRequest.newBuilder(
+                                    base.resolve("employee/search/" + encode(searchFragment(names, random))))
+                            .GET();
+                    case BY_ID -> HttpRequest.newBuilder(
+                                    base.resolve("employee/" + ids.get(random.nextInt(ids.size()))))
+                            .GET();
+                    case HIGHEST -> HttpRequest.newBuilder(base.resolve("employee/highestSalary"))
+                            .GET();
+                    case TOP_TEN -> HttpRequest.newBuilder(
+                                    base.resolve("employee/topTenHighestEarningEmployeeNames"))
+                            .GET();
+                    case CREATE -> HttpRequest.newBuilder(base.resolve("employee"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"name\":\"Load Test %d\",\"salary\":%d,\"age\":%d,\"title\":\"Tester\"}"
+                                            .formatted(
+                                                    random.nextInt(1_000_000),
+                                                    random.nextInt(30_000, 500_000),
+                                                    random.nextInt(16, 76))));
+                };
+        return builder.build();
+    }
+
+    private static String searchFragment(List<String> names, RandomGenerator random) {
+        final var name = names.get(random.nextInt(names.size()));
+        final var length = Math.min(name.length(), 3);
+        return name.substring(0, length);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
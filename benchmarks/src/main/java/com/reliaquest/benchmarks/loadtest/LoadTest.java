@@ -0,0 +1,338 @@
+package com.reliaquest.benchmarks.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Boots the mock server and the api from their boot jars, puts an {@link UpstreamProxy} between them and drives the
+ * api with an open-loop arrival rate. Latency is measured from each request's intended send time, so queueing behind
+ * the concurrency limit or a stalled upstream shows up in the percentiles instead of silently lowering the rate.
+ *
+ * <p>Writes {@code <timestamp>.json} (and {@code latest.json}) plus one HdrHistogram percentile distribution per
+ * endpoint into the report directory.
+ */
+public final class LoadTest {
+
+    private static final DateTimeFormatter REPORT_NAME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newCachedThreadPool())
+            .build();
+    private final List<Process> processes = new ArrayList<>();
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final var loadTest = new LoadTest(LoadTestConfig.fromSystemProperties());
+        Runtime.getRuntime().addShutdownHook(new Thread(loadTest::stopApplications));
+        try {
+            loadTest.run();
+        } finally {
+            loadTest.stopApplications();
+        }
+    }
+
+    private void run() throws Exception {
+        Files.createDirectories(config.reportDir());
+        startApplication(config.serverJar(), "server", config.serverPort(), config.serverArgs());
+        awaitPort(config.serverPort());
+
+        try (var proxy = new UpstreamProxy(config.proxyPort(), URI.create("http://localhost:" + config.serverPort()))) {
+            final var apiArgs = new ArrayList<>(config.apiArgs());
+            apiArgs.add("--employee.upstream.base-url=http://localhost:" + config.proxyPort() + "/api/v1");
+            startApplication(config.apiJar(), "api", config.apiPort(), apiArgs);
+            awaitPort(config.apiPort());
+
+            final var roster = fetchRoster();
+            final var base = URI.create("http://localhost:" + config.apiPort() + "/api/v1/");
+
+            log("Warming up for %s at %.1f req/s", config.warmup(), config.rate());
+            drive(base, roster, config.warmup());
+            proxy.reset();
+
+            log(
+                    "Measuring for %s at %.1f req/s, concurrency %d",
+                    config.duration(),
+                    config.rate(),
+                    config.concurrency());
+            final var startedAt = Instant.now();
+            final var stats = drive(base, roster, config.duration());
+            writeReport(startedAt, stats, proxy);
+        }
+    }
+
+    /*
+     * Ids and names for lookups and searches, read straight from the server before the proxy starts counting.
+     */
+    private Roster fetchRoster() throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + config.serverPort() + "/api/v1/employee"))
+                .GET()
+                .build();
+        final var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Could not read roster from server: HTTP " + response.statusCode());
+        }
+        final var ids = new ArrayList<String>();
+        final var names = new ArrayList<String>();
+        for (JsonNode employee : objectMapper.readTree(response.body()).path("data")) {
+            ids.add(employee.path("id").asText());
+            names.add(employee.path("employee_name").asText());
+        }
+        return new Roster(ids, names);
+    }
+
+    private Map<Endpoint, EndpointStats> drive(URI base, Roster roster, Duration duration) {
+        final var stats = new EnumMap<Endpoint, EndpointStats>(Endpoint.class);
+        config.mix().keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        final var picker = new WeightedPicker(config.mix());
+        final var random = new SplittableRandom(config.seed());
+        final var inFlight = new Semaphore(config.concurrency());
+        final var intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        final var durationNanos = duration.toNanos();
+        final var start = System.nanoTime();
+
+        for (long i = 0; ; i++) {
+            final var intended = start + (long) (i * intervalNanos);
+            if (intended - start >= durationNanos) {
+                break;
+            }
+            parkUntil(intended);
+
+            final var endpoint = picker.pick(random);
+            final var request = endpoint.request(base, roster.ids(), roster.names(), random);
+            final var endpointStats = stats.get(endpoint);
+            inFlight.acquireUninterruptibly();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                final var latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                inFlight.release();
+                endpointStats.record(latencyMicros, response == null ? -1 : response.statusCode());
+            });
+        }
+
+        inFlight.acquireUninterruptibly(config.concurrency());
+        inFlight.release(config.concurrency());
+        stats.values().forEach(endpointStats -> endpointStats.elapsedNanos = System.nanoTime() - start);
+        return stats;
+    }
+
+    private void writeReport(Instant startedAt, Map<Endpoint, EndpointStats> stats, UpstreamProxy proxy)
+            throws IOException {
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("startedAt", startedAt.toString());
+        report.put("config", reportConfig());
+        report.put(
+                "environment",
+                Map.of(
+                        "javaVersion", System.getProperty("java.version"),
+                        "availableProcessors", Runtime.getRuntime().availableProcessors(),
+                        "os", System.getProperty("os.name") + " " + System.getProperty("os.arch")));
+
+        final var endpoints = new LinkedHashMap<String, Object>();
+        for (var entry : stats.entrySet()) {
+            endpoints.put(entry.getKey().key(), entry.getValue().summary());
+            final var distribution = config.reportDir()
+                    .resolve(REPORT_NAME.format(startedAt) + "-" + entry.getKey().key() + ".hgrm");
+            try (var out = new PrintStream(Files.newOutputStream(distribution))) {
+                // recorded in microseconds, reported in milliseconds
+                entry.getValue().histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        report.put("endpoints", endpoints);
+
+        final var upstreamStatus = proxy.statusCounts();
+        report.put(
+                "upstream",
+                Map.of(
+                        "requests", upstreamStatus.values().stream().mapToLong(Long::longValue).sum(),
+                        "rateLimited", upstreamStatus.getOrDefault(429, 0L),
+                        "errors", upstreamStatus.entrySet().stream()
+                                        .filter(status -> status.getKey() >= 500)
+                                        .mapToLong(Map.Entry::getValue)
+                                        .sum()
+                                + proxy.transportErrors(),
+                        "status", upstreamStatus));
+
+        final var reportFile = config.reportDir().resolve(REPORT_NAME.format(startedAt) + ".json");
+        objectMapper.writeValue(reportFile.toFile(), report);
+        Files.copy(reportFile, config.reportDir().resolve("latest.json"), StandardCopyOption.REPLACE_EXISTING);
+        log("Report written to %s", reportFile);
+        System.out.println(objectMapper.writeValueAsString(endpoints));
+    }
+
+    private Map<String, Object> reportConfig() {
+        final var reportConfig = new LinkedHashMap<String, Object>();
+        reportConfig.put("rate", config.rate());
+        reportConfig.put("concurrency", config.concurrency());
+        reportConfig.put("warmup", config.warmup().toString());
+        reportConfig.put("duration", config.duration().toString());
+        final var mix = new LinkedHashMap<String, Integer>();
+        config.mix().forEach((endpoint, weight) -> mix.put(endpoint.key(), weight));
+        reportConfig.put("mix", mix);
+        reportConfig.put("seed", config.seed());
+        reportConfig.put("serverArgs", config.serverArgs());
+        reportConfig.put("apiArgs", config.apiArgs());
+        return reportConfig;
+    }
+
+    private void startApplication(Path jar, String name, int port, List<String> args) throws IOException {
+        final var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(args);
+        log("Starting %s: %s", name, String.join(" ", command));
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(config.reportDir().resolve(name + ".log").toFile())
+                .start());
+    }
+
+    private void stopApplications() {
+        processes.forEach(Process::destroy);
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+
+    private static void awaitPort(int port) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            try (var socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 500);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(250);
+            }
+        }
+        throw new IllegalStateException("Nothing listening on port " + port + " after 2 minutes");
+    }
+
+    private static void parkUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[loadtest] " + format + "%n", args);
+    }
+
+    private record Roster(List<String> ids, List<String> names) {}
+
+    private static final class WeightedPicker {
+
+        private final Endpoint[] endpoints;
+        private final int[] cumulativeWeights;
+
+        WeightedPicker(Map<Endpoint, Integer> mix) {
+            this.endpoints = mix.keySet().toArray(Endpoint[]::new);
+            this.cumulativeWeights = new int[endpoints.length];
+            var total = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                total += mix.get(endpoints[i]);
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        Endpoint pick(SplittableRandom random) {
+            final var roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+    }
+
+    private static final class EndpointStats {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<String, LongAdder> statusClasses = new LinkedHashMap<>();
+        private final LongAdder transportErrors = new LongAdder();
+        private volatile long elapsedNanos;
+
+        EndpointStats() {
+            List.of("2xx", "3xx", "4xx", "5xx").forEach(statusClass -> statusClasses.put(statusClass, new LongAdder()));
+        }
+
+        void record(long latencyMicros, int status) {
+            histogram.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+            if (status < 0) {
+                transportErrors.increment();
+            } else {
+                final var statusClass = statusClasses.get((status / 100) + "xx");
+                if (statusClass != null) {
+                    statusClass.increment();
+                }
+            }
+        }
+
+        Map<String, Object> summary() {
+            final var summary = new LinkedHashMap<String, Object>();
+            final var requests = histogram.getTotalCount();
+            summary.put("requests", requests);
+            summary.put("throughputPerSecond", requests / (elapsedNanos / 1e9));
+            final var status = new LinkedHashMap<String, Long>();
+            statusClasses.forEach((statusClass, count) -> status.put(statusClass, count.sum()));
+            summary.put("status", status);
+            summary.put("transportErrors", transportErrors.sum());
+            final var latency = new LinkedHashMap<String, Double>();
+            latency.put("mean", histogram.getMean() / 1000.0);
+            latency.put("p50", histogram.getValueAtPercentile(50) / 1000.0);
+            latency.put("p90", histogram.getValueAtPercentile(90) / 1000.0);
+            latency.put("p99", histogram.getValueAtPercentile(99) / 1000.0);
+            latency.put("p99.9", histogram.getValueAtPercentile(99.9) / 1000.0);
+            latency.put("max", histogram.getMaxValue() / 1000.0);
+            summary.put("latencyMs", latency);
+            return summary;
+        }
+    }
+}
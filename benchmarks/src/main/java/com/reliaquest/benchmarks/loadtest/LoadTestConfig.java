@@ -0,0 +1,76 @@
+package com.reliaquest.benchmarks.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties (forwarded from {@code -PloadTest.*} by the
+ * {@code loadTest} Gradle task).
+ */
+record LoadTestConfig(
+        Path serverJar,
+        Path apiJar,
+        Path reportDir,
+        int serverPort,
+        int proxyPort,
+        int apiPort,
+        List<String> serverArgs,
+        List<String> apiArgs,
+        double rate,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        long seed) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Path.of(required("loadtest.serverJar")),
+                Path.of(required("loadtest.apiJar")),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest")),
+                Integer.getInteger("loadtest.serverPort", 8112),
+                Integer.getInteger("loadtest.proxyPort", 8113),
+                Integer.getInteger("loadtest.apiPort", 8111),
+                args(System.getProperty("loadtest.serverArgs", "")),
+                args(System.getProperty("loadtest.apiArgs", "")),
+                Double.parseDouble(System.getProperty("loadtest.rate", "50")),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                mix(System.getProperty("loadtest.mix", "all=1,search=2,byId=4,highest=1,topTen=1,create=1")),
+                Long.getLong("loadtest.seed", 42L));
+    }
+
+    private static String required(String name) {
+        final var value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing system property " + name);
+        }
+        return value;
+    }
+
+    private static List<String> args(String value) {
+        return value.isBlank() ? List.of() : List.of(value.trim().split("\\s+"));
+    }
+
+    /*
+     * "all=1,byId=4" -> {ALL=1, BY_ID=4}; endpoints left out get no traffic.
+     */
+    private static Map<Endpoint, Integer> mix(String value) {
+        final var mix = new LinkedHashMap<Endpoint, Integer>();
+        for (String entry : value.split(",")) {
+            final var parts = entry.trim().split("=");
+            final var weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Endpoint mix has no weighted endpoints: " + value);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.benchmarks.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pass-through proxy between the api and the mock server that counts upstream status codes, so the report can show
+ * how many upstream calls were rate limited or failed without instrumenting either application.
+ */
+final class UpstreamProxy implements AutoCloseable {
+
+    private static final Set<String> HOP_BY_HOP_HEADERS =
+            Set.of("connection", "content-length", "expect", "host", "upgrade", "transfer-encoding", "keep-alive");
+
+    private final URI target;
+    private final HttpServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder transportErrors = new LongAdder();
+
+    UpstreamProxy(int port, URI target) throws IOException {
+        this.target = target;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 256);
+        this.server.createContext("/", this::forward);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.start();
+    }
+
+    void reset() {
+        statusCounts.clear();
+        transportErrors.reset();
+    }
+
+    Map<Integer, Long> statusCounts() {
+        final var counts = new TreeMap<Integer, Long>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    long transportErrors() {
+        return transportErrors.sum();
+    }
+
+    private void forward(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final var uri = target.resolve(exchange.getRequestURI().toString());
+            final var body = exchange.getRequestBody().readAllBytes();
+            final var request = HttpRequest.newBuilder(uri)
+                    .method(exchange.getRequestMethod(), HttpRequest.BodyPublishers.ofByteArray(body));
+            exchange.getRequestHeaders().forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                    values.forEach(value -> request.header(name, value));
+                }
+            });
+
+            final HttpResponse<byte[]> response;
+            try {
+                response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                transportErrors.increment();
+                exchange.sendResponseHeaders(502, -1);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            statusCounts.computeIfAbsent(response.statusCode(), ignored -> new LongAdder()).increment();
+            response.headers().map().forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase()) && !name.startsWith(":")) {
+                    exchange.getResponseHeaders().put(name, values);
+                }
+            });
+            final var responseBody = response.body();
+            exchange.sendResponseHeaders(response.statusCode(), responseBody.length == 0 ? -1 : responseBody.length);
+            if (responseBody.length > 0) {
+                exchange.getResponseBody().write(responseBody);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,178 @@
+package com.reliaquest.benchmarks.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.benchmarks.StubUpstream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-successful-request for the server and the api: the wall time from launching the JVM until
+ * {@code GET /api/v1/employee} first answers 200. Each module is started from its boot jar and, when a fast-start
+ * directory with a CDS archive is given, from the AOT-processed fast-start launch as well. The api talks to an
+ * in-process stub upstream, so its numbers do not depend on the mock server's rate limit.
+ *
+ * <p>Writes {@code startup.json} into the report directory.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient client =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final Path reportDir;
+    private final int runs;
+
+    private StartupBenchmark(Path reportDir, int runs) {
+        this.reportDir = reportDir;
+        this.runs = runs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final var benchmark = new StartupBenchmark(
+                Path.of(System.getProperty("startup.reportDir", "build/reports/startup")),
+                Integer.getInteger("startup.runs", 5));
+        Files.createDirectories(benchmark.reportDir);
+
+        final var upstream = StubUpstream.start(benchmark.objectMapper, 50);
+        try {
+            final var upstreamArg = "--employee.upstream.base-url=http://localhost:"
+                    + upstream.getAddress().getPort() + "/api/v1";
+            final var results = new LinkedHashMap<String, Object>();
+            for (String module : List.of("server", "api")) {
+                final var moduleArgs = module.equals("api") ? List.of(upstreamArg) : List.<String>of();
+                final var modes = new LinkedHashMap<String, Object>();
+                modes.put("standard", benchmark.measure(module, bootJarLaunch(module), moduleArgs));
+                final var fastStart = fastStartLaunch(module);
+                if (fastStart != null) {
+                    modes.put("fast-start", benchmark.measure(module, fastStart, moduleArgs));
+                }
+                results.put(module, modes);
+            }
+            final var report = benchmark.reportDir.resolve("startup.json");
+            benchmark.objectMapper.writeValue(report.toFile(), results);
+            log("Report written to %s", report);
+            System.out.println(benchmark.objectMapper.writeValueAsString(results));
+        } finally {
+            upstream.stop(0);
+        }
+    }
+
+    private Map<String, Object> measure(String module, Launch launch, List<String> args) throws Exception {
+        final var millis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            millis[run] = timeToFirstSuccess(module, launch, args);
+            log("%s %s run %d: %d ms", module, launch.name(), run + 1, millis[run]);
+        }
+        Arrays.sort(millis);
+        final var summary = new LinkedHashMap<String, Object>();
+        summary.put("runs", runs);
+        summary.put("minMillis", millis[0]);
+        summary.put("medianMillis", millis[runs / 2]);
+        summary.put("maxMillis", millis[runs - 1]);
+        return summary;
+    }
+
+    private long timeToFirstSuccess(String module, Launch launch, List<String> args) throws Exception {
+        final var port = freePort();
+        final var command = new ArrayList<>(launch.command());
+        command.add("--server.port=" + port);
+        command.addAll(args);
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/employee"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        final var start = System.nanoTime();
+        final var process = new ProcessBuilder(command)
+                .directory(launch.workingDir().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(reportDir.resolve(module + "-" + launch.name() + ".log").toFile())
+                .start();
+        try {
+            final var deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(module + " exited with " + process.exitValue() + " during startup");
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException(module + " did not answer within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static Launch bootJarLaunch(String module) {
+        final var jar = Path.of(required("startup." + module + "Jar")).toAbsolutePath();
+        return new Launch("standard", jar.getParent(), List.of(java(), "-jar", jar.toString()));
+    }
+
+    /*
+     * Mirrors the fastStart task in project-conventions.gradle.
+     */
+    private static Launch fastStartLaunch(String module) {
+        final var dir = System.getProperty("startup." + module + "FastStartDir");
+        if (dir == null || !Files.exists(Path.of(dir, "application.jsa"))) {
+            return null;
+        }
+        return new Launch(
+                "fast-start",
+                Path.of(dir),
+                List.of(
+                        java(),
+                        "-XX:SharedArchiveFile=application.jsa",
+                        "-Dspring.aot.enabled=true",
+                        "-Dspring.profiles.active=fast-start",
+                        "-jar",
+                        "application.jar"));
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static String required(String name) {
+        final var value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing system property " + name);
+        }
+        return value;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[startup] " + format + "%n", args);
+    }
+
+    private record Launch(String name, Path workingDir, List<String> command) {}
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Named misbehaviour profiles for the mock server, bound from {@code mock.faults.*}. The active profile can be
+ * switched at runtime through {@code PUT /api/v1/faults/{profile}}.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultProfileProperties {
+
+    public static final String NO_PROFILE = "none";
+
+    private String active = NO_PROFILE;
+
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+    @Data
+    public static class Profile {
+
+        /*
+         * Evaluated in order; the first route matching the request's method and path applies.
+         */
+        private List<Route> routes = new ArrayList<>();
+    }
+
+    @Data
+    public static class Route {
+
+        /*
+         * Any method when unset.
+         */
+        private String method;
+
+        /*
+         * Ant-style pattern matched against the request URI.
+         */
+        private String path = "/**";
+
+        private Latency latency = new Latency();
+
+        /*
+         * Fraction of matching requests answered with a 500 after the latency has been applied.
+         */
+        private double errorRate;
+
+        /*
+         * Fraction of matching requests whose body is cut short and whose connection is dropped.
+         */
+        private double resetRate;
+
+        private SlowBody slowBody = new SlowBody();
+    }
+
+    @Data
+    public static class Latency {
+
+        private Distribution distribution = Distribution.NONE;
+
+        /*
+         * FIXED
+         */
+        private Duration fixed = Duration.ZERO;
+
+        /*
+         * UNIFORM
+         */
+        private Duration min = Duration.ZERO;
+
+        private Duration max = Duration.ZERO;
+
+        /*
+         * LOG_NORMAL, parameterized by its median and 99th percentile.
+         */
+        private Duration median = Duration.ZERO;
+
+        private Duration p99 = Duration.ZERO;
+    }
+
+    @Data
+    public static class SlowBody {
+
+        /*
+         * Bytes written per chunk; zero disables slow streaming.
+         */
+        private int chunkSize;
+
+        private Duration chunkDelay = Duration.ZERO;
+    }
+
+    public enum Distribution {
+        NONE,
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(FaultInjectionFilter.FAULTS_PATH)
+@RequiredArgsConstructor
+public class FaultProfileController {
+
+    private final FaultInjectionFilter faultInjectionFilter;
+
+    @GetMapping()
+    public Response<Map<String, Object>> getFaultProfiles() {
+        return Response.handledWith(Map.of(
+                "active", faultInjectionFilter.getActiveProfile(), "profiles", faultInjectionFilter.getProfiles()));
+    }
+
+    @PutMapping("/{profile}")
+    public ResponseEntity<Response<String>> activateFaultProfile(@PathVariable("profile") String profile) {
+        try {
+            faultInjectionFilter.setActiveProfile(profile);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.error(e.getMessage()));
+        }
+        return ResponseEntity.ok(Response.handledWith(faultInjectionFilter.getActiveProfile()));
+    }
+}
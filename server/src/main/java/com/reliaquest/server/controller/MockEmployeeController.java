@@ -2,20 +2,31 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.ImportResult;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeQuery;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeImporter;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.RosterResponseCache;
+import com.reliaquest.server.web.WireFormat;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,11 +35,40 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String IMPORT_PATH = "/api/v1/employee/import";
+
     private final MockEmployeeService mockEmployeeService;
+    private final MockEmployeeImporter mockEmployeeImporter;
+    private final RosterResponseCache rosterResponseCache;
 
+    /*
+     * Unfiltered reads are served from the pre-serialized roster as-is, in JSON, Smile or CBOR depending on Accept;
+     * Tomcat leaves responses that already carry a Content-Encoding alone. Filtered, sorted or limited reads are
+     * evaluated per request and negotiated by the regular message converters. Invalid query parameters, such as a
+     * limit above MockEmployeeQuery.MAX_LIMIT, are a 400.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<?> getEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Valid MockEmployeeQuery query,
+            BindingResult errors) {
+        if (errors.hasErrors()) {
+            return ResponseEntity.badRequest().body(Response.error(describe(errors)));
+        }
+        if (!query.isUnfiltered()) {
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.query(query)));
+        }
+
+        final var format = WireFormat.negotiate(accept);
+        final var roster = rosterResponseCache.get(format);
+        final var response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(roster.gzip());
+        }
+        return response.body(roster.body());
     }
 
     @GetMapping("/{id}")
@@ -44,8 +84,44 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /*
+     * Streams the body into the roster: NDJSON with one CreateMockEmployeeInput per line, or CSV with a header row.
+     * Invalid lines are reported rather than failing the import; only an unusable CSV header is a 400.
+     */
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<Response<ImportResult>> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        final var format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? MockEmployeeImporter.Format.NDJSON
+                : MockEmployeeImporter.Format.CSV;
+        try {
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeImporter.importFrom(body, format)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static String describe(BindingResult errors) {
+        return errors.getFieldErrors().stream()
+                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .collect(Collectors.joining(", ", "Invalid query: ", ""));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            final var parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} lists rejected lines by their 1-based line number, capped at the server's
+ * {@code mock.import.max-reported-errors}; {@code rejected} always counts all of them.
+ */
+public record ImportResult(long imported, long rejected, List<LineError> errors) {
+
+    public record LineError(long line, String error) {}
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+import lombok.Data;
+
+/**
+ * Optional filter, sort and limit parameters for {@code GET /api/v1/employee}, e.g.
+ * {@code ?name=ann&minSalary=50000&sort=salary:desc&limit=10}.
+ */
+@Data
+public class MockEmployeeQuery {
+
+    /**
+     * Largest accepted {@code limit}; anything above it is a 400 rather than a heap sized for it.
+     */
+    public static final int MAX_LIMIT = 10_000;
+
+    private String name;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Integer minAge;
+    private Integer maxAge;
+
+    @Pattern(regexp = "(?i)(name|salary|age)(:(asc|desc))?")
+    private String sort;
+
+    @Positive @Max(MAX_LIMIT) private Integer limit;
+
+    public boolean isUnfiltered() {
+        return name == null
+                && minSalary == null
+                && maxSalary == null
+                && minAge == null
+                && maxAge == null
+                && sort == null
+                && limit == null;
+    }
+
+    public boolean matches(MockEmployee employee) {
+        if (name != null
+                && (employee.getName() == null
+                        || !employee.getName().toLowerCase(Locale.ROOT).contains(name.toLowerCase(Locale.ROOT)))) {
+            return false;
+        }
+        return inRange(employee.getSalary(), minSalary, maxSalary) && inRange(employee.getAge(), minAge, maxAge);
+    }
+
+    /*
+     * Null when no sort was requested; employees missing the sort field always come last.
+     */
+    public Comparator<MockEmployee> comparator() {
+        if (sort == null) {
+            return null;
+        }
+        final var parts = sort.toLowerCase(Locale.ROOT).split(":");
+        return switch (parts[0]) {
+            case "name" -> nullsLast(MockEmployee::getName, parts);
+            case "salary" -> nullsLast(MockEmployee::getSalary, parts);
+            case "age" -> nullsLast(MockEmployee::getAge, parts);
+            default -> throw new IllegalArgumentException("Unsupported sort field: " + parts[0]);
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<MockEmployee> nullsLast(
+            Function<MockEmployee, T> field, String[] sortParts) {
+        final Comparator<T> order = sortParts.length > 1 && "desc".equals(sortParts[1])
+                ? Comparator.reverseOrder()
+                : Comparator.naturalOrder();
+        return Comparator.comparing(field, Comparator.nullsLast(order));
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return Objects.nonNull(value) && (min == null || value >= min) && (max == null || value <= max);
+    }
+}
@@ -0,0 +1,284 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.ImportResult;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streaming bulk import of {@link CreateMockEmployeeInput}s as NDJSON or CSV. The request thread only splits the body
+ * into chunks of lines; chunks are parsed and validated in parallel and inserted in their original order, one
+ * {@link MockEmployeeService#createAll(List)} batch per chunk. At most {@code parallelism * 2} chunks are in flight,
+ * so memory stays flat however large the body is. Invalid lines are skipped and reported by line number.
+ *
+ * <p>CSV needs a header row naming the {@code name}, {@code salary}, {@code age} and {@code title} columns, in any
+ * order; quoted fields may contain commas and doubled quotes but not line breaks.
+ */
+@Slf4j
+@Service
+public class MockEmployeeImporter {
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "salary", "age", "title");
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ObjectReader inputReader;
+    private final Validator validator;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public MockEmployeeImporter(
+            MockEmployeeService mockEmployeeService,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${mock.import.parallelism:0}") int parallelism,
+            @Value("${mock.import.chunk-size:1000}") int chunkSize,
+            @Value("${mock.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.inputReader = objectMapper.readerFor(CreateMockEmployeeInput.class);
+        this.validator = validator;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = maxReportedErrors;
+        final var threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            final var thread = new Thread(runnable, "mock-import-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /*
+     * Throws IllegalArgumentException when a CSV body has no usable header; nothing is imported then.
+     */
+    public ImportResult importFrom(@NonNull InputStream body, @NonNull Format format) throws IOException {
+        final var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 1 << 16);
+        final var parser = format == Format.CSV ? csvParser(reader.readLine()) : (LineParser) this::parseJson;
+        final var firstLine = format == Format.CSV ? 2L : 1L;
+
+        final var started = System.nanoTime();
+        final var progress = new Progress();
+        final var inFlight = new ArrayDeque<CompletableFuture<Chunk>>();
+        var lineNumber = firstLine;
+        var lines = new ArrayList<String>(chunkSize);
+        var chunkStart = lineNumber;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lines.add(line);
+            lineNumber++;
+            if (lines.size() == chunkSize) {
+                submit(lines, chunkStart, parser, inFlight, progress);
+                lines = new ArrayList<>(chunkSize);
+                chunkStart = lineNumber;
+            }
+        }
+        if (!lines.isEmpty()) {
+            submit(lines, chunkStart, parser, inFlight, progress);
+        }
+        while (!inFlight.isEmpty()) {
+            insert(inFlight.poll().join(), progress);
+        }
+
+        log.info(
+                "Imported {} employees from {} lines of {}, rejected {} in {} ms",
+                progress.imported,
+                lineNumber - firstLine,
+                format,
+                progress.rejected,
+                (System.nanoTime() - started) / 1_000_000);
+        return new ImportResult(progress.imported, progress.rejected, List.copyOf(progress.errors));
+    }
+
+    private void submit(
+            List<String> lines,
+            long firstLine,
+            LineParser parser,
+            ArrayDeque<CompletableFuture<Chunk>> inFlight,
+            Progress progress) {
+        while (inFlight.size() >= parallelism * 2) {
+            insert(inFlight.poll().join(), progress);
+        }
+        inFlight.add(CompletableFuture.supplyAsync(() -> parse(lines, firstLine, parser), executor));
+    }
+
+    private void insert(Chunk chunk, Progress progress) {
+        if (!chunk.inputs().isEmpty()) {
+            progress.imported += mockEmployeeService.createAll(chunk.inputs());
+        }
+        progress.rejected += chunk.errors().size();
+        for (ImportResult.LineError error : chunk.errors()) {
+            if (progress.errors.size() >= maxReportedErrors) {
+                break;
+            }
+            progress.errors.add(error);
+        }
+    }
+
+    /*
+     * Whatever goes wrong with a line, including a failure inside the parser or validator, rejects that line alone.
+     */
+    private Chunk parse(List<String> lines, long firstLine, LineParser parser) {
+        final var inputs = new ArrayList<CreateMockEmployeeInput>(lines.size());
+        final var errors = new ArrayList<ImportResult.LineError>();
+        for (int i = 0; i < lines.size(); i++) {
+            final var line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                final var input = parser.parse(line);
+                final var violations = validator.validate(input);
+                if (violations.isEmpty()) {
+                    inputs.add(input);
+                } else {
+                    errors.add(new ImportResult.LineError(
+                            firstLine + i,
+                            violations.stream()
+                                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                                    .sorted()
+                                    .collect(Collectors.joining("; "))));
+                }
+            } catch (RuntimeException e) {
+                if (!(e instanceof IllegalArgumentException)) {
+                    log.debug("Unexpected failure importing line {}", firstLine + i, e);
+                }
+                errors.add(new ImportResult.LineError(
+                        firstLine + i, Objects.toString(e.getMessage(), e.getClass().getSimpleName())));
+            }
+        }
+        return new Chunk(inputs, errors);
+    }
+
+    private CreateMockEmployeeInput parseJson(String line) {
+        try {
+            final CreateMockEmployeeInput input = inputReader.readValue(line);
+            if (input == null) {
+                throw new IllegalArgumentException("Line is not a JSON object");
+            }
+            return input;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        }
+    }
+
+    private static LineParser csvParser(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV body has no header row");
+        }
+        final var names = splitCsv(header);
+        final var positions = new HashMap<String, Integer>();
+        for (int i = 0; i < names.size(); i++) {
+            positions.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        final var missing = CSV_COLUMNS.stream()
+                .filter(column -> !positions.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns " + missing);
+        }
+        final var columns = CSV_COLUMNS.stream().map(positions::get).mapToInt(Integer::intValue).toArray();
+        return line -> {
+            final var fields = splitCsv(line);
+            final var input = new CreateMockEmployeeInput();
+            input.setName(field(fields, columns[0]));
+            input.setSalary(integer(fields, columns[1], "salary"));
+            input.setAge(integer(fields, columns[2], "age"));
+            input.setTitle(field(fields, columns[3]));
+            return input;
+        };
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column < fields.size() && !fields.get(column).isEmpty() ? fields.get(column) : null;
+    }
+
+    private static Integer integer(List<String> fields, int column, String name) {
+        final var value = field(fields, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " is not a number: " + value);
+        }
+    }
+
+    static List<String> splitCsv(String line) {
+        final var fields = new ArrayList<String>();
+        final var field = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final var c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    @FunctionalInterface
+    private interface LineParser {
+        CreateMockEmployeeInput parse(String line);
+    }
+
+    private record Chunk(List<CreateMockEmployeeInput> inputs, List<ImportResult.LineError> errors) {}
+
+    private static final class Progress {
+
+        private long imported;
+        private long rejected;
+        private final List<ImportResult.LineError> errors = new ArrayList<>();
+    }
+}
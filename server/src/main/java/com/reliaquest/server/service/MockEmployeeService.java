@@ -4,15 +4,19 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeQuery;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,35 +24,155 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
-    private final Faker faker;
+    private final UsernamePool usernamePool;
+    private final ShardRange shardRange;
 
-    @Getter
+    /*
+     * Guarded by rosterLock: readers share it, and creates, imports and deletes take it exclusively.
+     */
     private final List<MockEmployee> mockEmployees;
 
+    private final ReadWriteLock rosterLock = new ReentrantReadWriteLock();
+
+    /*
+     * Bumped on every create/delete so cached representations of the roster know when to rebuild.
+     */
+    private final AtomicLong rosterVersion = new AtomicLong();
+
+    public long getRosterVersion() {
+        return rosterVersion.get();
+    }
+
+    /*
+     * A copy of the roster as of now, safe to iterate while writes go on.
+     */
+    public List<MockEmployee> getMockEmployees() {
+        rosterLock.readLock().lock();
+        try {
+            return List.copyOf(mockEmployees);
+        } finally {
+            rosterLock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Ids outside this shard's range cannot be here, so they are not looked for.
+     */
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        if (!shardRange.owns(uuid)) {
+            return Optional.empty();
+        }
+        rosterLock.readLock().lock();
+        try {
+            return mockEmployees.stream()
+                    .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
+                            && mockEmployee.getId().equals(uuid))
+                    .findFirst();
+        } finally {
+            rosterLock.readLock().unlock();
+        }
+    }
+
+    /*
+     * With both a sort and a limit, only the best `limit` matches are kept in a bounded heap instead of sorting the
+     * whole roster. The heap is never sized beyond the roster, however large the limit.
+     */
+    public List<MockEmployee> query(@NonNull MockEmployeeQuery query) {
+        rosterLock.readLock().lock();
+        try {
+            return evaluate(query);
+        } finally {
+            rosterLock.readLock().unlock();
+        }
+    }
+
+    private List<MockEmployee> evaluate(MockEmployeeQuery query) {
+        final var comparator = query.comparator();
+        final var limit = query.getLimit();
+        if (comparator == null) {
+            var matches = mockEmployees.stream().filter(query::matches);
+            if (limit != null) {
+                matches = matches.limit(limit);
+            }
+            return matches.toList();
+        }
+        if (limit == null) {
+            return mockEmployees.stream().filter(query::matches).sorted(comparator).toList();
+        }
+
+        final var heap = new PriorityQueue<>(Math.min(limit, mockEmployees.size()) + 1, comparator.reversed());
+        for (MockEmployee mockEmployee : mockEmployees) {
+            if (query.matches(mockEmployee)) {
+                heap.offer(mockEmployee);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+        }
+        final var top = new ArrayList<>(heap);
+        top.sort(comparator);
+        return top;
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+                shardRange.nextId(), ServerConfiguration.EMAIL_TEMPLATE.formatted(usernamePool.next()), input);
+        rosterLock.writeLock().lock();
+        try {
+            mockEmployees.add(mockEmployee);
+            rosterVersion.incrementAndGet();
+        } finally {
+            rosterLock.writeLock().unlock();
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /*
+     * Adds the whole batch under one lock and one version bump, so a bulk import does not rebuild cached
+     * representations of the roster per employee.
+     */
+    public int createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var batch = new ArrayList<MockEmployee>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            batch.add(MockEmployee.from(
+                    shardRange.nextId(), ServerConfiguration.EMAIL_TEMPLATE.formatted(usernamePool.next()), input));
+        }
+        rosterLock.writeLock().lock();
+        try {
+            mockEmployees.addAll(batch);
+            rosterVersion.incrementAndGet();
+        } finally {
+            rosterLock.writeLock().unlock();
+        }
+        log.debug("Added {} employees", batch.size());
+        return batch.size();
+    }
+
+    /*
+     * The deleted employee's username becomes available to new employees again, unless another employee still has
+     * the same email.
+     */
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final Optional<MockEmployee> mockEmployee;
+        rosterLock.writeLock().lock();
+        try {
+            mockEmployee = mockEmployees.stream()
+                    .filter(employee -> Objects.nonNull(employee.getName())
+                            && employee.getName().equalsIgnoreCase(input.getName()))
+                    .findFirst();
+            if (mockEmployee.isPresent()) {
+                mockEmployees.remove(mockEmployee.get());
+                rosterVersion.incrementAndGet();
+                final var email = mockEmployee.get().getEmail();
+                if (email != null && mockEmployees.stream().noneMatch(employee -> email.equals(employee.getEmail()))) {
+                    usernamePool.release(UsernamePool.usernameOf(email));
+                }
+            }
+        } finally {
+            rosterLock.writeLock().unlock();
+        }
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
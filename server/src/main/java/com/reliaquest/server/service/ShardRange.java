@@ -0,0 +1,73 @@
+package com.reliaquest.server.service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The slice of the employee id space this instance owns when it runs as shard {@code mock.shard.index} of
+ * {@code mock.shard.count}. Ids are split into {@code count} equal ranges by their leading 32 bits, and every id
+ * minted here falls into this shard's range, so a client can route a lookup by id without asking around. A single
+ * instance is shard 0 of 1 and owns every id.
+ */
+@Slf4j
+@Component
+public class ShardRange {
+
+    private final int index;
+
+    private final int count;
+
+    private final long first;
+    private final long end;
+
+    public ShardRange(@Value("${mock.shard.index:0}") int index, @Value("${mock.shard.count:1}") int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+        this.index = index;
+        this.count = count;
+        this.first = rangeStart(index, count);
+        this.end = rangeStart(index + 1, count);
+        if (count > 1) {
+            log.info("Serving shard {} of {}: ids {} to {}", index, count, prefix(first), prefix(end - 1));
+        }
+    }
+
+    /*
+     * Shard owning the id out of count: the leading 32 bits scaled down to 0..count-1.
+     */
+    public static int shardOf(UUID id, int count) {
+        return (int) (((id.getMostSignificantBits() >>> 32) * count) >>> 32);
+    }
+
+    public boolean owns(UUID id) {
+        return count == 1 || shardOf(id, count) == index;
+    }
+
+    /*
+     * A random (version 4) UUID whose leading 32 bits are redrawn from this shard's range.
+     */
+    public UUID nextId() {
+        final var random = UUID.randomUUID();
+        if (count == 1) {
+            return random;
+        }
+        final var leading = first + ThreadLocalRandom.current().nextLong(end - first);
+        return new UUID(
+                leading << 32 | (random.getMostSignificantBits() & 0xFFFFFFFFL), random.getLeastSignificantBits());
+    }
+
+    /*
+     * Lowest leading 32 bits that shardOf maps to shard: ceil(shard * 2^32 / count).
+     */
+    private static long rangeStart(int shard, int count) {
+        return (((long) shard << 32) + count - 1) / count;
+    }
+
+    private static String prefix(long leading) {
+        return "%08x".formatted(leading);
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-generated, unique usernames for new employees' emails. A single background thread owns the {@link Faker} and
+ * keeps the pool topped up, so {@link #next()} never generates on the request thread. Every username is reserved in
+ * a shared set before it is handed out, which keeps emails unique no matter how many creates run concurrently, and
+ * released again when its employee is deleted.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class UsernamePool {
+
+    private final Faker faker;
+    private final BlockingQueue<String> pool;
+    private final Set<String> reserved = ConcurrentHashMap.newKeySet();
+    private final AtomicLong fallbackSequence = new AtomicLong();
+    private final Thread refiller;
+
+    public UsernamePool(
+            Faker faker, List<MockEmployee> mockEmployees, @Value("${mock.usernames.pool-size:256}") int poolSize) {
+        this.faker = faker;
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+        mockEmployees.stream()
+                .map(MockEmployee::getEmail)
+                .filter(Objects::nonNull)
+                .map(UsernamePool::usernameOf)
+                .forEach(reserved::add);
+        this.refiller = new Thread(this::refill, "username-pool-refiller");
+        this.refiller.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        refiller.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        refiller.interrupt();
+    }
+
+    /*
+     * Falls back to a sequential username when the pool has been drained faster than it refills, rather than
+     * blocking the caller.
+     */
+    public String next() {
+        final var username = pool.poll();
+        if (username != null) {
+            return username;
+        }
+        String fallback;
+        do {
+            fallback = "employee" + fallbackSequence.incrementAndGet();
+        } while (!reserved.add(fallback));
+        log.debug("Username pool empty, handing out {}", fallback);
+        return fallback;
+    }
+
+    /*
+     * Called once no employee has the username any more, so it may be handed out again. Without this, reservations
+     * would grow with every create for the life of the server.
+     */
+    public void release(String username) {
+        reserved.remove(username);
+    }
+
+    public static String usernameOf(String email) {
+        final var at = email.indexOf('@');
+        return at < 0 ? email : email.substring(0, at);
+    }
+
+    private void refill() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final var username = faker.twitter().userName().toLowerCase();
+                if (reserved.add(username)) {
+                    pool.put(username);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
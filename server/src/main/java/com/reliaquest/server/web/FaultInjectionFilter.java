@@ -0,0 +1,251 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultProfileProperties;
+import com.reliaquest.server.model.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies the active {@link FaultProfileProperties fault profile} to incoming requests: per-route latency, injected
+ * 500s, truncated responses and slowly streamed bodies. Runs ahead of {@link RandomRequestLimitInterceptor}, so
+ * rate-limited requests are delayed too.
+ */
+@Slf4j
+@Component
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    public static final String FAULTS_PATH = "/api/v1/faults";
+
+    /*
+     * z-score of the 99th percentile of the standard normal distribution.
+     */
+    private static final double Z_99 = 2.3263478740408408;
+
+    private final FaultProfileProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final AtomicReference<String> activeProfile;
+    private final Counter injectedErrors;
+    private final Counter connectionResets;
+
+    public FaultInjectionFilter(
+            FaultProfileProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.activeProfile = new AtomicReference<>(requireKnown(properties.getActive()));
+        this.injectedErrors = rejectedCounter(meterRegistry, "injected_error");
+        this.connectionResets = rejectedCounter(meterRegistry, "connection_reset");
+    }
+
+    public String getActiveProfile() {
+        return activeProfile.get();
+    }
+
+    public Set<String> getProfiles() {
+        return properties.getProfiles().keySet();
+    }
+
+    public void setActiveProfile(String profile) {
+        final var previous = activeProfile.getAndSet(requireKnown(profile));
+        log.info("Switched fault profile from '{}' to '{}'", previous, profile);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(FAULTS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var route = matchingRoute(request);
+        if (route.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final var fault = route.get();
+        final var random = RandomGenerator.getDefault();
+        sleep(sampleLatency(fault.getLatency(), random));
+
+        if (random.nextDouble() < fault.getErrorRate()) {
+            injectedErrors.increment();
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault."));
+            return;
+        }
+        if (random.nextDouble() < fault.getResetRate()) {
+            connectionResets.increment();
+            resetConnection(response);
+            return;
+        }
+
+        final var slowBody = fault.getSlowBody();
+        if (slowBody.getChunkSize() > 0) {
+            filterChain.doFilter(request, new SlowBodyResponse(response, slowBody));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Optional<FaultProfileProperties.Route> matchingRoute(HttpServletRequest request) {
+        final var profile = properties.getProfiles().get(activeProfile.get());
+        if (profile == null) {
+            return Optional.empty();
+        }
+        return profile.getRoutes().stream()
+                .filter(route -> route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))
+                .filter(route -> pathMatcher.match(route.getPath(), request.getRequestURI()))
+                .findFirst();
+    }
+
+    /*
+     * Throws IllegalArgumentException naming the known profiles, "none" included, when profile is not one of them.
+     */
+    private String requireKnown(String profile) {
+        if (!FaultProfileProperties.NO_PROFILE.equals(profile)
+                && !properties.getProfiles().containsKey(profile)) {
+            final var known = new ArrayList<String>();
+            known.add(FaultProfileProperties.NO_PROFILE);
+            known.addAll(properties.getProfiles().keySet());
+            throw new IllegalArgumentException("Unknown fault profile '" + profile + "', known profiles are " + known);
+        }
+        return profile;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("mock.requests.rejected")
+                .description("Requests answered with an error before reaching a controller")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    static Duration sampleLatency(FaultProfileProperties.Latency latency, RandomGenerator random) {
+        return switch (latency.getDistribution()) {
+            case NONE -> Duration.ZERO;
+            case FIXED -> latency.getFixed();
+            case UNIFORM -> {
+                final var min = latency.getMin().toNanos();
+                final var max = latency.getMax().toNanos();
+                yield Duration.ofNanos(max > min ? random.nextLong(min, max + 1) : min);
+            }
+            case LOG_NORMAL -> {
+                final var mu = Math.log(Math.max(1, latency.getMedian().toNanos()));
+                final var sigma = Math.max(0, Math.log(Math.max(1, latency.getP99().toNanos())) - mu) / Z_99;
+                yield Duration.ofNanos((long) Math.exp(mu + sigma * random.nextGaussian()));
+            }
+        };
+    }
+
+    /*
+     * Advertises a longer body than is written, so Tomcat has to close the connection once the request completes and
+     * the client sees a premature end of stream.
+     */
+    private static void resetConnection(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(1024);
+        response.getOutputStream().write("{\"data\":[".getBytes(StandardCharsets.UTF_8));
+        response.flushBuffer();
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis(), duration.toNanosPart() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class SlowBodyResponse extends HttpServletResponseWrapper {
+
+        private final FaultProfileProperties.SlowBody slowBody;
+        private SlowBodyOutputStream outputStream;
+
+        SlowBodyResponse(HttpServletResponse response, FaultProfileProperties.SlowBody slowBody) {
+            super(response);
+            this.slowBody = slowBody;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new SlowBodyOutputStream(super.getOutputStream(), slowBody);
+            }
+            return outputStream;
+        }
+    }
+
+    /*
+     * Forwards writes in chunks of at most chunkSize bytes, flushing and pausing after each one.
+     */
+    private static class SlowBodyOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final FaultProfileProperties.SlowBody slowBody;
+
+        SlowBodyOutputStream(ServletOutputStream delegate, FaultProfileProperties.SlowBody slowBody) {
+            this.delegate = delegate;
+            this.slowBody = slowBody;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            var position = off;
+            final var end = off + len;
+            while (position < end) {
+                final var chunk = Math.min(slowBody.getChunkSize(), end - position);
+                delegate.write(b, position, chunk);
+                delegate.flush();
+                position += chunk;
+                sleep(slowBody.getChunkDelay());
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the serialized {@code GET /employee} body, plain and gzipped, per {@link WireFormat} for the current roster
+ * version. The bytes are only rebuilt on the first read after a create/delete bumped
+ * {@link MockEmployeeService#getRosterVersion()}.
+ */
+@Slf4j
+@Component
+public class RosterResponseCache {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Map<WireFormat, ObjectMapper> objectMappers = new EnumMap<>(WireFormat.class);
+    private final Map<WireFormat, CachedRoster> cachedRosters = new ConcurrentHashMap<>();
+
+    public RosterResponseCache(
+            MockEmployeeService mockEmployeeService,
+            ObjectMapper objectMapper,
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.mockEmployeeService = mockEmployeeService;
+        objectMappers.put(WireFormat.JSON, objectMapper);
+        objectMappers.put(WireFormat.SMILE, objectMapperBuilder.factory(new SmileFactory()).build());
+        objectMappers.put(WireFormat.CBOR, objectMapperBuilder.factory(new CBORFactory()).build());
+    }
+
+    public CachedRoster get(WireFormat format) {
+        final var version = mockEmployeeService.getRosterVersion();
+        final var current = cachedRosters.get(format);
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        return cachedRosters.compute(
+                format,
+                (ignored, existing) ->
+                        existing != null && existing.version() == version ? existing : build(format, version));
+    }
+
+    /*
+     * The version is read before serializing, so a write racing with the rebuild leaves a stale tag behind and the
+     * next read simply rebuilds again.
+     */
+    private CachedRoster build(WireFormat format, long version) {
+        try {
+            final var body = objectMappers
+                    .get(format)
+                    .writeValueAsBytes(Response.handledWith(mockEmployeeService.getMockEmployees()));
+            final var gzip = gzip(body);
+            log.debug(
+                    "Cached roster version {} as {}: {} bytes, {} bytes gzipped",
+                    version,
+                    format,
+                    body.length,
+                    gzip.length);
+            return new CachedRoster(version, body, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize employee roster.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        final var buffer = new ByteArrayOutputStream(bytes.length / 4);
+        try (var gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public record CachedRoster(long version, byte[] body, byte[] gzip) {}
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultProfileProperties;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class FaultProfileControllerTest {
+
+    private final FaultInjectionFilter faultInjectionFilter = faultInjectionFilter();
+    private final FaultProfileController controller = new FaultProfileController(faultInjectionFilter);
+
+    @Test
+    void activateFaultProfile_SwitchesToKnownProfile() {
+        final var response = controller.activateFaultProfile("slow-upstream");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("slow-upstream", response.getBody().data());
+        assertEquals("slow-upstream", faultInjectionFilter.getActiveProfile());
+    }
+
+    @Test
+    void activateFaultProfile_NotFoundForUnknownProfile() {
+        final var response = controller.activateFaultProfile("flaky");
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(Response.Status.ERROR, response.getBody().status());
+        assertEquals(
+                "Unknown fault profile 'flaky', known profiles are [none, slow-upstream]",
+                response.getBody().error());
+        assertEquals(FaultProfileProperties.NO_PROFILE, faultInjectionFilter.getActiveProfile());
+    }
+
+    private static FaultInjectionFilter faultInjectionFilter() {
+        final var properties = new FaultProfileProperties();
+        properties.getProfiles().put("slow-upstream", new FaultProfileProperties.Profile());
+        return new FaultInjectionFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+}
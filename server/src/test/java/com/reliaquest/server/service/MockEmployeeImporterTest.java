@@ -0,0 +1,241 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.ImportResult;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeImporterTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final MockEmployeeService mockEmployeeService = mock(MockEmployeeService.class);
+    private final List<CreateMockEmployeeInput> created = new ArrayList<>();
+    private final List<MockEmployeeImporter> importers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        importers.forEach(MockEmployeeImporter::shutdown);
+    }
+
+    @Test
+    void splitCsv_UnquotesFieldsAndEscapedQuotes() {
+        assertEquals(
+                List.of("Ann", "Lead, \"Platform\"", "", "50000"),
+                MockEmployeeImporter.splitCsv("Ann,\"Lead, \"\"Platform\"\"\",,50000"));
+        assertEquals(List.of(""), MockEmployeeImporter.splitCsv(""));
+        assertEquals(List.of("a", ""), MockEmployeeImporter.splitCsv("a,"));
+        assertThrows(IllegalArgumentException.class, () -> MockEmployeeImporter.splitCsv("\"unterminated,1"));
+    }
+
+    @Test
+    void importFrom_RejectsCsvWithoutUsableHeader() {
+        final var importer = importer(VALIDATOR, 2, 10, 100);
+
+        final var missing = assertThrows(
+                IllegalArgumentException.class,
+                () -> importer.importFrom(body("name,salary,age\nAnn,50000,30\n"), MockEmployeeImporter.Format.CSV));
+        final var empty = assertThrows(
+                IllegalArgumentException.class,
+                () -> importer.importFrom(body(""), MockEmployeeImporter.Format.CSV));
+
+        assertEquals("CSV header is missing columns [title]", missing.getMessage());
+        assertEquals("CSV body has no header row", empty.getMessage());
+        verify(mockEmployeeService, never()).createAll(any());
+    }
+
+    @Test
+    void importFrom_ReportsRejectedCsvLinesByLineNumber() throws Exception {
+        final var importer = importer(VALIDATOR, 2, 2, 100);
+
+        final var result = importer.importFrom(
+                body("Title,Age,Name,Salary\n"
+                        + "Engineer,30,Ann,50000\n"
+                        + "Engineer,30,Bob,lots\n"
+                        + "\n"
+                        + "Engineer,10,Cid,50000\n"
+                        + "\"Lead, Ops\",40,\"Dee \"\"D\"\" Day\",90000\n"),
+                MockEmployeeImporter.Format.CSV);
+
+        assertEquals(2, result.imported());
+        assertEquals(2, result.rejected());
+        assertEquals(
+                List.of(
+                        new ImportResult.LineError(3, "salary is not a number: lots"),
+                        new ImportResult.LineError(5, "age must be greater than or equal to 16")),
+                result.errors());
+        assertEquals(List.of("Ann", "Dee \"D\" Day"), names());
+        assertEquals("Lead, Ops", created.get(1).getTitle());
+    }
+
+    @Test
+    void importFrom_ReportsRejectedJsonLinesByLineNumber() throws Exception {
+        final var importer = importer(VALIDATOR, 2, 1, 100);
+
+        final var result = importer.importFrom(
+                body("{\"name\":\"Ann\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}\n"
+                        + "{\"name\":\n"
+                        + "null\n"
+                        + "{\"name\":\"Bob\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}\n"),
+                MockEmployeeImporter.Format.NDJSON);
+
+        assertEquals(2, result.imported());
+        assertEquals(List.of(2L, 3L), lines(result));
+        assertEquals("Line is not a JSON object", result.errors().get(1).error());
+        assertEquals(List.of("Ann", "Bob"), names());
+    }
+
+    @Test
+    void importFrom_RejectsLineWhoseValidationThrows() throws Exception {
+        final var validator = mock(Validator.class);
+        when(validator.validate(any(CreateMockEmployeeInput.class))).thenAnswer(invocation -> {
+            if ("Bob".equals(invocation.<CreateMockEmployeeInput>getArgument(0).getName())) {
+                throw new ValidationException("Validator failed");
+            }
+            return Set.of();
+        });
+        final var importer = importer(validator, 2, 10, 100);
+
+        final var result = importer.importFrom(
+                body("name,salary,age,title\nAnn,50000,30,Engineer\nBob,50000,30,Engineer\nCid,50000,30,Engineer\n"),
+                MockEmployeeImporter.Format.CSV);
+
+        assertEquals(2, result.imported());
+        assertEquals(List.of(new ImportResult.LineError(3, "Validator failed")), result.errors());
+        assertEquals(List.of("Ann", "Cid"), names());
+    }
+
+    @Test
+    void importFrom_CapsReportedErrorsButCountsAll() throws Exception {
+        final var importer = importer(VALIDATOR, 2, 2, 3);
+        final var csv = new StringBuilder("name,salary,age,title\n");
+        for (int i = 0; i < 7; i++) {
+            csv.append("Ann,-1,30,Engineer\n");
+        }
+
+        final var result = importer.importFrom(body(csv.toString()), MockEmployeeImporter.Format.CSV);
+
+        assertEquals(0, result.imported());
+        assertEquals(7, result.rejected());
+        assertEquals(List.of(2L, 3L, 4L), lines(result));
+        verify(mockEmployeeService, never()).createAll(any());
+    }
+
+    @Test
+    void importFrom_StopsReadingWhileTwiceParallelismChunksAreInFlight() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var validator = mock(Validator.class);
+        when(validator.validate(any(CreateMockEmployeeInput.class))).thenAnswer(invocation -> {
+            release.await();
+            return Set.of();
+        });
+        final var importer = importer(validator, 1, 1, 100);
+        final var body = new LineByLineBody(100);
+        final var result = new AtomicReference<ImportResult>();
+        final var reader = new Thread(() -> {
+            try {
+                result.set(importer.importFrom(body, MockEmployeeImporter.Format.NDJSON));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        reader.start();
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reader.getState() != Thread.State.WAITING && System.nanoTime() - deadline < 0) {
+            Thread.sleep(1);
+        }
+        final var readWhileBlocked = body.served();
+        release.countDown();
+        reader.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertEquals(Thread.State.TERMINATED, reader.getState());
+        assertTrue(readWhileBlocked <= 4, "read " + readWhileBlocked + " lines with the first chunk stuck");
+        assertEquals(100, result.get().imported());
+    }
+
+    private MockEmployeeImporter importer(Validator validator, int parallelism, int chunkSize, int maxReportedErrors) {
+        when(mockEmployeeService.createAll(anyList())).thenAnswer(invocation -> {
+            final List<CreateMockEmployeeInput> batch = invocation.getArgument(0);
+            created.addAll(batch);
+            return batch.size();
+        });
+        final var importer = new MockEmployeeImporter(
+                mockEmployeeService, new ObjectMapper(), validator, parallelism, chunkSize, maxReportedErrors);
+        importers.add(importer);
+        return importer;
+    }
+
+    private List<String> names() {
+        return created.stream().map(CreateMockEmployeeInput::getName).toList();
+    }
+
+    private static List<Long> lines(ImportResult result) {
+        return result.errors().stream().map(ImportResult.LineError::line).toList();
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     * NDJSON body handing out at most one line per read and reporting nothing as available, so the importer's
+     * reader cannot get further ahead than the lines it has asked for.
+     */
+    private static final class LineByLineBody extends InputStream {
+
+        private final int lines;
+        private final AtomicInteger served = new AtomicInteger();
+        private byte[] current = new byte[0];
+        private int position;
+
+        private LineByLineBody(int lines) {
+            this.lines = lines;
+        }
+
+        int served() {
+            return served.get();
+        }
+
+        @Override
+        public int read() {
+            final var buffer = new byte[1];
+            return read(buffer, 0, 1) < 0 ? -1 : buffer[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == current.length) {
+                if (served.get() == lines) {
+                    return -1;
+                }
+                current = ("{\"name\":\"Employee " + served.incrementAndGet()
+                                + "\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}\n")
+                        .getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            final var count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
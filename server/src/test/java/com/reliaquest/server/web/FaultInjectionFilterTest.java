@@ -0,0 +1,146 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultProfileProperties;
+import com.reliaquest.server.config.FaultProfileProperties.Distribution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    @Test
+    void sampleLatency_LogNormalHitsConfiguredMedianAndP99() {
+        final var latency = logNormal(Duration.ofMillis(20), Duration.ofMillis(200));
+        final var random = new Random(42);
+        final var samples = new long[100_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = FaultInjectionFilter.sampleLatency(latency, random).toNanos();
+        }
+        Arrays.sort(samples);
+
+        final var median = samples[samples.length / 2] / 1e6;
+        final var p99 = samples[(int) (samples.length * 0.99)] / 1e6;
+        assertEquals(20, median, 20 * 0.03, "median " + median);
+        assertEquals(200, p99, 200 * 0.05, "p99 " + p99);
+        assertTrue(samples[0] > 0);
+    }
+
+    @Test
+    void sampleLatency_LogNormalWithoutSpreadIsAlwaysTheMedian() {
+        final var latency = logNormal(Duration.ofMillis(20), Duration.ofMillis(10));
+        final var random = new Random(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(
+                    Duration.ofMillis(20).toNanos(),
+                    FaultInjectionFilter.sampleLatency(latency, random).toNanos(),
+                    1);
+        }
+    }
+
+    @Test
+    void sampleLatency_UniformStaysWithinBounds() {
+        final var latency = new FaultProfileProperties.Latency();
+        latency.setDistribution(Distribution.UNIFORM);
+        latency.setMin(Duration.ofMillis(5));
+        latency.setMax(Duration.ofMillis(10));
+        final var random = new Random(42);
+
+        for (int i = 0; i < 1_000; i++) {
+            final var sample = FaultInjectionFilter.sampleLatency(latency, random);
+            assertTrue(sample.compareTo(latency.getMin()) >= 0, "" + sample);
+            assertTrue(sample.compareTo(latency.getMax()) <= 0, "" + sample);
+        }
+    }
+
+    @Test
+    void doFilter_AppliesFirstRouteMatchingMethodAndPath() throws Exception {
+        final var filter = filter(
+                route("delete", "/api/v1/employee/**", 1.0),
+                route(null, "/api/v1/employee/*", 0.0),
+                route(null, "/**", 1.0));
+
+        final var deleted = perform(filter, "DELETE", "/api/v1/employee/x");
+        final var read = perform(filter, "GET", "/api/v1/employee/x");
+        final var listed = perform(filter, "GET", "/api/v1/employee");
+
+        assertEquals(500, deleted.response().getStatus());
+        assertNull(deleted.chain().getRequest());
+        assertTrue(deleted.response().getContentAsString().contains("Injected fault."));
+        assertEquals(200, read.response().getStatus());
+        assertNotNull(read.chain().getRequest());
+        assertEquals(500, listed.response().getStatus());
+    }
+
+    @Test
+    void doFilter_PassesUnmatchedRequestsThrough() throws Exception {
+        final var filter = filter(route("GET", "/api/v1/employee", 1.0));
+
+        final var created = perform(filter, "POST", "/api/v1/employee");
+
+        assertEquals(200, created.response().getStatus());
+        assertNotNull(created.chain().getRequest());
+    }
+
+    @Test
+    void doFilter_NeverFaultsTheFaultEndpoints() throws Exception {
+        final var filter = filter(route(null, "/**", 1.0));
+
+        final var faults = perform(filter, "PUT", FaultInjectionFilter.FAULTS_PATH + "/none");
+
+        assertEquals(200, faults.response().getStatus());
+        assertNotNull(faults.chain().getRequest());
+    }
+
+    @Test
+    void setActiveProfile_RejectsUnknownProfileNamingKnownOnes() {
+        final var filter = filter(route(null, "/**", 0.0));
+
+        final var e = assertThrows(IllegalArgumentException.class, () -> filter.setActiveProfile("flaky"));
+
+        assertEquals("Unknown fault profile 'flaky', known profiles are [none, test]", e.getMessage());
+        assertEquals("test", filter.getActiveProfile());
+    }
+
+    private static FaultInjectionFilter filter(FaultProfileProperties.Route... routes) {
+        final var profile = new FaultProfileProperties.Profile();
+        profile.setRoutes(List.of(routes));
+        final var properties = new FaultProfileProperties();
+        properties.getProfiles().put("test", profile);
+        properties.setActive("test");
+        return new FaultInjectionFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private static FaultProfileProperties.Route route(String method, String path, double errorRate) {
+        final var route = new FaultProfileProperties.Route();
+        route.setMethod(method);
+        route.setPath(path);
+        route.setErrorRate(errorRate);
+        return route;
+    }
+
+    private static FaultProfileProperties.Latency logNormal(Duration median, Duration p99) {
+        final var latency = new FaultProfileProperties.Latency();
+        latency.setDistribution(Distribution.LOG_NORMAL);
+        latency.setMedian(median);
+        latency.setP99(p99);
+        return latency;
+    }
+
+    private static Exchange perform(FaultInjectionFilter filter, String method, String uri) throws Exception {
+        final var exchange = new Exchange(new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest(method, uri), exchange.response(), exchange.chain());
+        return exchange;
+    }
+
+    private record Exchange(MockHttpServletResponse response, MockFilterChain chain) {}
+}